@@ -0,0 +1,350 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.api;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A primitive specialization of {@link Result} whose success value is an {@code int}.
+ * <p>
+ * Operations mirror those of {@code Result}, but success values are never boxed.
+ *
+ * @implSpec This is a
+ *     <a href="https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/lang/doc-files/ValueBased.html">
+ *     value-based</a> type; use of identity-sensitive operations on instances of {@code IntResult} should be avoided.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ * @param <F> the type of the failure value
+ */
+public interface IntResult<F> {
+
+    /**
+     * Checks if this {@code IntResult} is successful.
+     *
+     * @return if this {@code IntResult} is successful, {@code true}; otherwise, {@code false}
+     * @see Result#hasSuccess()
+     */
+    boolean hasSuccess();
+
+    /**
+     * Checks if this {@code IntResult} is failed.
+     *
+     * @return if this {@code IntResult} is failed, {@code true}; otherwise, {@code false}
+     * @see Result#hasFailure()
+     */
+    boolean hasFailure();
+
+    /**
+     * Returns this {@code IntResult}'s success value as a possibly-empty {@link OptionalInt}.
+     *
+     * @return if this {@code IntResult} is successful, an {@link OptionalInt} containing its value; otherwise, an empty
+     *     {@code OptionalInt}
+     * @see Result#getSuccess()
+     */
+    OptionalInt getSuccess();
+
+    /**
+     * Returns this {@code IntResult}'s failure value as a possibly-empty {@link Optional}.
+     *
+     * @return if this {@code IntResult} is failed, an {@link Optional} containing its value; otherwise, an empty
+     *     {@code Optional}
+     * @see Result#getFailure()
+     */
+    Optional<F> getFailure();
+
+    /**
+     * Returns this {@code IntResult}'s success value, or the alternative one.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * IntResult&lt;String&gt; r = getResult();
+     * int x = r.orElse(-1);</code>
+     * </pre>
+     *
+     * @param other the alternative success value
+     * @return if this {@code IntResult} is successful, its value; otherwise {@code other}
+     * @see Result#orElse(Object)
+     */
+    int orElse(int other);
+
+    /**
+     * Returns this {@code IntResult}'s success value, or maps its failure value.
+     *
+     * @param mapper the mapping function that produces the alternative success value
+     * @return if this {@code IntResult} is successful, its value; otherwise the value produced by {@code mapper}
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code mapper} is {@code null}
+     * @see Result#orElseMap(Function)
+     */
+    int orElseMap(ToIntFunction<? super F> mapper);
+
+    /**
+     * Returns this {@code IntResult}'s success value, or throws an exception built from its failure value.
+     *
+     * @param <X> the type of the exception to be thrown
+     * @param exceptionMapper the mapping {@link Function} that produces the exception to be thrown
+     * @return the success value of this {@code IntResult}
+     * @throws X if this {@code IntResult} is failed
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code exceptionMapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#orElseThrow(Function)
+     */
+    <X extends Throwable> int orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X;
+
+    /**
+     * Collapses this {@code IntResult} into a single value by mapping either its success or its failure value.
+     *
+     * @param <R> the type of the value returned by the mappers
+     * @param successMapper the mapping function to apply if this {@code IntResult} is successful
+     * @param failureMapper the mapping {@link Function} to apply if this {@code IntResult} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}; may be {@code null}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code successMapper} is {@code null};
+     *     or if it is failed and {@code failureMapper} is {@code null}
+     * @see Result#fold(Function, Function)
+     */
+    <R> R fold(IntFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper);
+
+    /**
+     * Returns this {@code IntResult}'s success value as a possibly-empty {@link IntStream}.
+     *
+     * @return if this {@code IntResult} is successful, a sequential {@link IntStream} containing only its value;
+     *     otherwise an empty {@code IntStream}
+     * @see Result#streamSuccess()
+     */
+    IntStream streamSuccess();
+
+    /**
+     * Returns this {@code IntResult}'s failure value as a possibly-empty {@link Stream}.
+     *
+     * @return if this {@code IntResult} is failed, a sequential {@link Stream} containing only its value; otherwise an
+     *     empty {@code Stream}
+     * @see Result#streamFailure()
+     */
+    Stream<F> streamFailure();
+
+    /**
+     * Performs the given action with this {@code IntResult}'s success value.
+     *
+     * @param action the {@link IntConsumer} to be applied to this {@code IntResult}'s success value
+     * @return this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code action} is {@code null}
+     * @see Result#ifSuccess(Consumer)
+     */
+    IntResult<F> ifSuccess(IntConsumer action);
+
+    /**
+     * Performs the given action with this {@code IntResult}'s failure value.
+     *
+     * @param action the {@link Consumer} to be applied to this {@code IntResult}'s failure value
+     * @return this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code action} is {@code null}
+     * @see Result#ifFailure(Consumer)
+     */
+    IntResult<F> ifFailure(Consumer<? super F> action);
+
+    /**
+     * Performs either of the given actions with this {@code IntResult}'s value.
+     *
+     * @param successAction the {@link IntConsumer} to be applied to this {@code IntResult}'s success value
+     * @param failureAction the {@link Consumer} to be applied to this {@code IntResult}'s failure value
+     * @return this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code successAction} is {@code null};
+     *     or if it is failed and {@code failureAction} is {@code null}
+     * @see Result#ifSuccessOrElse(Consumer, Consumer)
+     */
+    IntResult<F> ifSuccessOrElse(IntConsumer successAction, Consumer<? super F> failureAction);
+
+    /**
+     * Transforms this successful {@code IntResult} into a failed one, based on the given condition.
+     *
+     * @param isAcceptable the {@link IntPredicate} to apply to this {@code IntResult}'s success value
+     * @param mapper the mapping function that produces the failure value
+     * @return if this is a successful {@code IntResult} whose value is deemed not acceptable, a new failed
+     *     {@code IntResult} holding the value produced by {@code mapper}; otherwise, this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code isAcceptable} is {@code null};
+     *     or if its success value is not acceptable and {@code mapper} is {@code null} or returns {@code null}
+     * @see Result#filter(Predicate, Function)
+     */
+    IntResult<F> filter(IntPredicate isAcceptable, IntFunction<? extends F> mapper);
+
+    /**
+     * Transforms this failed {@code IntResult} into a successful one, based on the given condition.
+     *
+     * @param isRecoverable the {@link Predicate} to apply to this {@code IntResult}'s failure value
+     * @param mapper the mapping function that produces the success value
+     * @return if this is a failed {@code IntResult} whose value is deemed recoverable, a new successful
+     *     {@code IntResult} holding the value produced by {@code mapper}; otherwise, this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code isRecoverable} is {@code null}; or
+     *     if its failure value is recoverable and {@code mapper} is {@code null}
+     * @see Result#recover(Predicate, Function)
+     */
+    IntResult<F> recover(Predicate<? super F> isRecoverable, ToIntFunction<? super F> mapper);
+
+    /**
+     * Transforms this {@code IntResult}'s success value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * IntResult&lt;String&gt; r = getResult();
+     * IntResult&lt;String&gt; x = r.mapSuccess(s -&gt; s * 60);</code>
+     * </pre>
+     *
+     * @param mapper the mapping function that produces the new success value
+     * @return if this is a successful {@code IntResult}, a new successful {@code IntResult} holding the value produced
+     *     by {@code mapper}; otherwise, this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code mapper} is {@code null}
+     * @see Result#mapSuccess(Function)
+     */
+    IntResult<F> mapSuccess(IntUnaryOperator mapper);
+
+    /**
+     * Transforms this {@code IntResult}'s success value into an object, producing a regular {@link Result}.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * IntResult&lt;String&gt; r = getResult();
+     * Result&lt;Duration, String&gt; x = r.mapToObj(Duration::ofHours);</code>
+     * </pre>
+     *
+     * @param <S> the type of the value returned by {@code mapper}
+     * @param mapper the mapping function that produces the new success value
+     * @return if this is a successful {@code IntResult}, a new successful {@code Result} holding the value produced by
+     *     {@code mapper}; otherwise, a new failed {@code Result} holding this {@code IntResult}'s failure value
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code mapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#mapSuccess(Function)
+     */
+    <S> Result<S, F> mapToObj(IntFunction<? extends S> mapper);
+
+    /**
+     * Transforms this {@code IntResult}'s failure value.
+     *
+     * @param <F2> the type of the value returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces the new failure value
+     * @return if this is a failed {@code IntResult}, a new failed {@code IntResult} holding the value produced by
+     *     {@code mapper}; otherwise, this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @see Result#mapFailure(Function)
+     */
+    <F2> IntResult<F2> mapFailure(Function<? super F, ? extends F2> mapper);
+
+    /**
+     * Transforms this {@code IntResult}'s success or failure value.
+     *
+     * @param <F2> the type of the value returned by {@code failureMapper}
+     * @param successMapper the mapping function that produces the new success value
+     * @param failureMapper the mapping {@link Function} that produces the new failure value
+     * @return if this is a successful {@code IntResult}, a new successful {@code IntResult} holding the value produced
+     *     by {@code successMapper}; otherwise, a new failed {@code IntResult} holding the value produced by
+     *     {@code failureMapper}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code successMapper} is {@code null};
+     *     or if it is failed and {@code failureMapper} is {@code null} or returns {@code null}
+     * @see Result#map(Function, Function)
+     */
+    <F2> IntResult<F2> map(IntUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper);
+
+    /**
+     * Transforms this successful {@code IntResult} into a different one.
+     *
+     * @param mapper the mapping function that produces a new {@code IntResult}
+     * @return if this {@code IntResult} is successful, a new {@code IntResult} produced by {@code mapper}; otherwise,
+     *     this {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code mapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#flatMapSuccess(Function)
+     */
+    IntResult<F> flatMapSuccess(IntFunction<? extends IntResult<? extends F>> mapper);
+
+    /**
+     * Transforms this failed {@code IntResult} into a different one.
+     *
+     * @param <F2> the failure type of the {@code IntResult} returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces a new {@code IntResult}
+     * @return if this {@code IntResult} is failed, a new {@code IntResult} produced by {@code mapper}; otherwise, this
+     *     {@code IntResult}
+     * @throws NullPointerException if this {@code IntResult} is failed and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @see Result#flatMapFailure(Function)
+     */
+    <F2> IntResult<F2> flatMapFailure(Function<? super F, ? extends IntResult<? extends F2>> mapper);
+
+    /**
+     * Transforms this {@code IntResult} into a different one.
+     *
+     * @param <F2> the failure type of the {@code IntResult} returned by {@code successMapper} and
+     *     {@code failureMapper}
+     * @param successMapper the mapping function that produces a new {@code IntResult} if this {@code IntResult} is
+     *     successful
+     * @param failureMapper the mapping {@link Function} that produces a new {@code IntResult} if this
+     *     {@code IntResult} is failed
+     * @return the {@code IntResult} produced by either {@code successMapper} or {@code failureMapper}
+     * @throws NullPointerException if this {@code IntResult} is successful and {@code successMapper} is {@code null}
+     *     or returns {@code null}; or if it is failed and {@code failureMapper} is {@code null} or returns {@code null}
+     * @see Result#flatMap(Function, Function)
+     */
+    <F2> IntResult<F2> flatMap(
+            IntFunction<? extends IntResult<? extends F2>> successMapper,
+            Function<? super F, ? extends IntResult<? extends F2>> failureMapper);
+
+    /**
+     * Indicates whether some other object is "equal to" this {@code IntResult}.
+     * <p>
+     * The other object is considered equal if:
+     * <ul>
+     * <li>it is also an {@code IntResult} and;
+     * <li>both objects are instances of the same class and;
+     * <li>their values are "equal to" each other.
+     * </ul>
+     *
+     * @param obj the object to be tested for equality
+     * @return {@code true} if the other object is "equal to" this object; otherwise {@code false}
+     * @see #hashCode()
+     */
+    @Override
+    boolean equals(Object obj);
+
+    /**
+     * Returns the hash code of this {@code IntResult}'s value.
+     *
+     * @return hash code value of this {@code IntResult}'s value
+     */
+    @Override
+    int hashCode();
+
+    /**
+     * Returns a string representation of this {@code IntResult}.
+     * <p>
+     * The exact presentation format is unspecified and may vary between implementations and versions.
+     *
+     * @implSpec The returned string should be suitable for debugging and must include the string representation of its
+     *     value. Successful and failed {@code IntResult} instances must be unambiguously differentiable.
+     * @return a string representation of this {@code IntResult}
+     */
+    @Override
+    String toString();
+}
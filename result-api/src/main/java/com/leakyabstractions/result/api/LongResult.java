@@ -0,0 +1,350 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.api;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A primitive specialization of {@link Result} whose success value is a {@code long}.
+ * <p>
+ * Operations mirror those of {@code Result}, but success values are never boxed.
+ *
+ * @implSpec This is a
+ *     <a href="https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/lang/doc-files/ValueBased.html">
+ *     value-based</a> type; use of identity-sensitive operations on instances of {@code LongResult} should be avoided.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ * @param <F> the type of the failure value
+ */
+public interface LongResult<F> {
+
+    /**
+     * Checks if this {@code LongResult} is successful.
+     *
+     * @return if this {@code LongResult} is successful, {@code true}; otherwise, {@code false}
+     * @see Result#hasSuccess()
+     */
+    boolean hasSuccess();
+
+    /**
+     * Checks if this {@code LongResult} is failed.
+     *
+     * @return if this {@code LongResult} is failed, {@code true}; otherwise, {@code false}
+     * @see Result#hasFailure()
+     */
+    boolean hasFailure();
+
+    /**
+     * Returns this {@code LongResult}'s success value as a possibly-empty {@link OptionalLong}.
+     *
+     * @return if this {@code LongResult} is successful, an {@link OptionalLong} containing its value; otherwise, an
+     *     empty {@code OptionalLong}
+     * @see Result#getSuccess()
+     */
+    OptionalLong getSuccess();
+
+    /**
+     * Returns this {@code LongResult}'s failure value as a possibly-empty {@link Optional}.
+     *
+     * @return if this {@code LongResult} is failed, an {@link Optional} containing its value; otherwise, an empty
+     *     {@code Optional}
+     * @see Result#getFailure()
+     */
+    Optional<F> getFailure();
+
+    /**
+     * Returns this {@code LongResult}'s success value, or the alternative one.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * LongResult&lt;String&gt; r = getResult();
+     * long x = r.orElse(-1);</code>
+     * </pre>
+     *
+     * @param other the alternative success value
+     * @return if this {@code LongResult} is successful, its value; otherwise {@code other}
+     * @see Result#orElse(Object)
+     */
+    long orElse(long other);
+
+    /**
+     * Returns this {@code LongResult}'s success value, or maps its failure value.
+     *
+     * @param mapper the mapping function that produces the alternative success value
+     * @return if this {@code LongResult} is successful, its value; otherwise the value produced by {@code mapper}
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code mapper} is {@code null}
+     * @see Result#orElseMap(Function)
+     */
+    long orElseMap(ToLongFunction<? super F> mapper);
+
+    /**
+     * Returns this {@code LongResult}'s success value, or throws an exception built from its failure value.
+     *
+     * @param <X> the type of the exception to be thrown
+     * @param exceptionMapper the mapping {@link Function} that produces the exception to be thrown
+     * @return the success value of this {@code LongResult}
+     * @throws X if this {@code LongResult} is failed
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code exceptionMapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#orElseThrow(Function)
+     */
+    <X extends Throwable> long orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X;
+
+    /**
+     * Collapses this {@code LongResult} into a single value by mapping either its success or its failure value.
+     *
+     * @param <R> the type of the value returned by the mappers
+     * @param successMapper the mapping function to apply if this {@code LongResult} is successful
+     * @param failureMapper the mapping {@link Function} to apply if this {@code LongResult} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}; may be {@code null}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code successMapper} is {@code null};
+     *     or if it is failed and {@code failureMapper} is {@code null}
+     * @see Result#fold(Function, Function)
+     */
+    <R> R fold(LongFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper);
+
+    /**
+     * Returns this {@code LongResult}'s success value as a possibly-empty {@link LongStream}.
+     *
+     * @return if this {@code LongResult} is successful, a sequential {@link LongStream} containing only its value;
+     *     otherwise an empty {@code LongStream}
+     * @see Result#streamSuccess()
+     */
+    LongStream streamSuccess();
+
+    /**
+     * Returns this {@code LongResult}'s failure value as a possibly-empty {@link Stream}.
+     *
+     * @return if this {@code LongResult} is failed, a sequential {@link Stream} containing only its value; otherwise an
+     *     empty {@code Stream}
+     * @see Result#streamFailure()
+     */
+    Stream<F> streamFailure();
+
+    /**
+     * Performs the given action with this {@code LongResult}'s success value.
+     *
+     * @param action the {@link LongConsumer} to be applied to this {@code LongResult}'s success value
+     * @return this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code action} is {@code null}
+     * @see Result#ifSuccess(Consumer)
+     */
+    LongResult<F> ifSuccess(LongConsumer action);
+
+    /**
+     * Performs the given action with this {@code LongResult}'s failure value.
+     *
+     * @param action the {@link Consumer} to be applied to this {@code LongResult}'s failure value
+     * @return this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code action} is {@code null}
+     * @see Result#ifFailure(Consumer)
+     */
+    LongResult<F> ifFailure(Consumer<? super F> action);
+
+    /**
+     * Performs either of the given actions with this {@code LongResult}'s value.
+     *
+     * @param successAction the {@link LongConsumer} to be applied to this {@code LongResult}'s success value
+     * @param failureAction the {@link Consumer} to be applied to this {@code LongResult}'s failure value
+     * @return this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code successAction} is {@code null};
+     *     or if it is failed and {@code failureAction} is {@code null}
+     * @see Result#ifSuccessOrElse(Consumer, Consumer)
+     */
+    LongResult<F> ifSuccessOrElse(LongConsumer successAction, Consumer<? super F> failureAction);
+
+    /**
+     * Transforms this successful {@code LongResult} into a failed one, based on the given condition.
+     *
+     * @param isAcceptable the {@link LongPredicate} to apply to this {@code LongResult}'s success value
+     * @param mapper the mapping function that produces the failure value
+     * @return if this is a successful {@code LongResult} whose value is deemed not acceptable, a new failed
+     *     {@code LongResult} holding the value produced by {@code mapper}; otherwise, this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code isAcceptable} is {@code null};
+     *     or if its success value is not acceptable and {@code mapper} is {@code null} or returns {@code null}
+     * @see Result#filter(Predicate, Function)
+     */
+    LongResult<F> filter(LongPredicate isAcceptable, LongFunction<? extends F> mapper);
+
+    /**
+     * Transforms this failed {@code LongResult} into a successful one, based on the given condition.
+     *
+     * @param isRecoverable the {@link Predicate} to apply to this {@code LongResult}'s failure value
+     * @param mapper the mapping function that produces the success value
+     * @return if this is a failed {@code LongResult} whose value is deemed recoverable, a new successful
+     *     {@code LongResult} holding the value produced by {@code mapper}; otherwise, this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code isRecoverable} is {@code null}; or
+     *     if its failure value is recoverable and {@code mapper} is {@code null}
+     * @see Result#recover(Predicate, Function)
+     */
+    LongResult<F> recover(Predicate<? super F> isRecoverable, ToLongFunction<? super F> mapper);
+
+    /**
+     * Transforms this {@code LongResult}'s success value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * LongResult&lt;String&gt; r = getResult();
+     * LongResult&lt;String&gt; x = r.mapSuccess(s -&gt; s * 60);</code>
+     * </pre>
+     *
+     * @param mapper the mapping function that produces the new success value
+     * @return if this is a successful {@code LongResult}, a new successful {@code LongResult} holding the value
+     *     produced by {@code mapper}; otherwise, this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code mapper} is {@code null}
+     * @see Result#mapSuccess(Function)
+     */
+    LongResult<F> mapSuccess(LongUnaryOperator mapper);
+
+    /**
+     * Transforms this {@code LongResult}'s success value into an object, producing a regular {@link Result}.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * LongResult&lt;String&gt; r = getResult();
+     * Result&lt;Duration, String&gt; x = r.mapToObj(Duration::ofHours);</code>
+     * </pre>
+     *
+     * @param <S> the type of the value returned by {@code mapper}
+     * @param mapper the mapping function that produces the new success value
+     * @return if this is a successful {@code LongResult}, a new successful {@code Result} holding the value produced by
+     *     {@code mapper}; otherwise, a new failed {@code Result} holding this {@code LongResult}'s failure value
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code mapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#mapSuccess(Function)
+     */
+    <S> Result<S, F> mapToObj(LongFunction<? extends S> mapper);
+
+    /**
+     * Transforms this {@code LongResult}'s failure value.
+     *
+     * @param <F2> the type of the value returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces the new failure value
+     * @return if this is a failed {@code LongResult}, a new failed {@code LongResult} holding the value produced by
+     *     {@code mapper}; otherwise, this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @see Result#mapFailure(Function)
+     */
+    <F2> LongResult<F2> mapFailure(Function<? super F, ? extends F2> mapper);
+
+    /**
+     * Transforms this {@code LongResult}'s success or failure value.
+     *
+     * @param <F2> the type of the value returned by {@code failureMapper}
+     * @param successMapper the mapping function that produces the new success value
+     * @param failureMapper the mapping {@link Function} that produces the new failure value
+     * @return if this is a successful {@code LongResult}, a new successful {@code LongResult} holding the value
+     *     produced by {@code successMapper}; otherwise, a new failed {@code LongResult} holding the value produced by
+     *     {@code failureMapper}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code successMapper} is {@code null};
+     *     or if it is failed and {@code failureMapper} is {@code null} or returns {@code null}
+     * @see Result#map(Function, Function)
+     */
+    <F2> LongResult<F2> map(LongUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper);
+
+    /**
+     * Transforms this successful {@code LongResult} into a different one.
+     *
+     * @param mapper the mapping function that produces a new {@code LongResult}
+     * @return if this {@code LongResult} is successful, a new {@code LongResult} produced by {@code mapper}; otherwise,
+     *     this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code mapper} is {@code null} or
+     *     returns {@code null}
+     * @see Result#flatMapSuccess(Function)
+     */
+    LongResult<F> flatMapSuccess(LongFunction<? extends LongResult<? extends F>> mapper);
+
+    /**
+     * Transforms this failed {@code LongResult} into a different one.
+     *
+     * @param <F2> the failure type of the {@code LongResult} returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces a new {@code LongResult}
+     * @return if this {@code LongResult} is failed, a new {@code LongResult} produced by {@code mapper}; otherwise,
+     *     this {@code LongResult}
+     * @throws NullPointerException if this {@code LongResult} is failed and {@code mapper} is {@code null} or returns
+     *     {@code null}
+     * @see Result#flatMapFailure(Function)
+     */
+    <F2> LongResult<F2> flatMapFailure(Function<? super F, ? extends LongResult<? extends F2>> mapper);
+
+    /**
+     * Transforms this {@code LongResult} into a different one.
+     *
+     * @param <F2> the failure type of the {@code LongResult} returned by {@code successMapper} and
+     *     {@code failureMapper}
+     * @param successMapper the mapping function that produces a new {@code LongResult} if this {@code LongResult} is
+     *     successful
+     * @param failureMapper the mapping {@link Function} that produces a new {@code LongResult} if this
+     *     {@code LongResult} is failed
+     * @return the {@code LongResult} produced by either {@code successMapper} or {@code failureMapper}
+     * @throws NullPointerException if this {@code LongResult} is successful and {@code successMapper} is {@code null}
+     *     or returns {@code null}; or if it is failed and {@code failureMapper} is {@code null} or returns {@code null}
+     * @see Result#flatMap(Function, Function)
+     */
+    <F2> LongResult<F2> flatMap(
+            LongFunction<? extends LongResult<? extends F2>> successMapper,
+            Function<? super F, ? extends LongResult<? extends F2>> failureMapper);
+
+    /**
+     * Indicates whether some other object is "equal to" this {@code LongResult}.
+     * <p>
+     * The other object is considered equal if:
+     * <ul>
+     * <li>it is also a {@code LongResult} and;
+     * <li>both objects are instances of the same class and;
+     * <li>their values are "equal to" each other.
+     * </ul>
+     *
+     * @param obj the object to be tested for equality
+     * @return {@code true} if the other object is "equal to" this object; otherwise {@code false}
+     * @see #hashCode()
+     */
+    @Override
+    boolean equals(Object obj);
+
+    /**
+     * Returns the hash code of this {@code LongResult}'s value.
+     *
+     * @return hash code value of this {@code LongResult}'s value
+     */
+    @Override
+    int hashCode();
+
+    /**
+     * Returns a string representation of this {@code LongResult}.
+     * <p>
+     * The exact presentation format is unspecified and may vary between implementations and versions.
+     *
+     * @implSpec The returned string should be suitable for debugging and must include the string representation of its
+     *     value. Successful and failed {@code LongResult} instances must be unambiguously differentiable.
+     * @return a string representation of this {@code LongResult}
+     */
+    @Override
+    String toString();
+}
@@ -20,6 +20,9 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -154,6 +157,142 @@ public interface Result<S, F> {
      */
     S orElseMap(Function<? super F, ? extends S> mapper);
 
+    /**
+     * Returns this {@code Result}'s success value, or throws an exception built from its failure value.
+     * <p>
+     * If this {@code Result} is failed, {@code exceptionMapper} will be applied to its value to produce the exception
+     * to be thrown. This is intended for boundaries where a failure must be turned into an exception. Throwables
+     * created without a stack trace make this operation much cheaper.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Integer, String&gt; r = getResult();
+     * int x = r.orElseThrow(IllegalStateException::new);</code>
+     * </pre>
+     *
+     * @implSpec The default implementation checks {@link #hasSuccess()} and then obtains the success value via
+     *     {@link #orElse(Object)} or the failure value via {@link #getFailure()}. Implementations should override it to
+     *     avoid creating any intermediate objects.
+     * @param <X> the type of the exception to be thrown
+     * @param exceptionMapper the mapping {@link Function} that produces the exception to be thrown
+     * @return the success value of this {@code Result}
+     * @throws X if this {@code Result} is failed
+     * @throws NullPointerException if this {@code Result} is failed and {@code exceptionMapper} is {@code null} or
+     *     returns {@code null}
+     * @see #orElseMap(Function)
+     */
+    default <X extends Throwable> S orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        if (this.hasSuccess()) {
+            return this.orElse(null);
+        }
+        throw exceptionMapper.apply(this.getFailure().orElse(null));
+    }
+
+    /**
+     * Collapses this {@code Result} into a single value by mapping either its success or its failure value.
+     * <p>
+     * If this {@code Result} is successful, {@code successMapper} will be applied to its value; otherwise
+     * {@code failureMapper} will be applied to its failure value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Integer, String&gt; r = getResult();
+     * String x = r.fold(s -&gt; "Value: " + s, f -&gt; "Error: " + f);</code>
+     * </pre>
+     *
+     * @implSpec The default implementation checks {@link #hasSuccess()} and then obtains the success value via
+     *     {@link #orElse(Object)} or the failure value via {@link #getFailure()}. Implementations should override it to
+     *     avoid creating any intermediate objects.
+     * @param <R> the type of the value returned by the mappers
+     * @param successMapper the mapping {@link Function} to apply if this {@code Result} is successful
+     * @param failureMapper the mapping {@link Function} to apply if this {@code Result} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}; may be {@code null}
+     * @throws NullPointerException if this {@code Result} is successful and {@code successMapper} is {@code null}; or
+     *     if it is failed and {@code failureMapper} is {@code null}
+     * @see #foldToInt(ToIntFunction, ToIntFunction)
+     * @see #foldToLong(ToLongFunction, ToLongFunction)
+     * @see #foldToDouble(ToDoubleFunction, ToDoubleFunction)
+     */
+    default <R> R fold(Function<? super S, ? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return this.hasSuccess()
+                ? successMapper.apply(this.orElse(null))
+                : failureMapper.apply(this.getFailure().orElse(null));
+    }
+
+    /**
+     * Collapses this {@code Result} into a single {@code int} value by mapping either its success or its failure value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Server, String&gt; r = connect();
+     * int x = r.foldToInt(Server::getUptime, f -&gt; -1);</code>
+     * </pre>
+     *
+     * @implSpec The default implementation behaves like {@link #fold(Function, Function)}. Implementations should
+     *     override it to avoid creating any intermediate objects.
+     * @param successMapper the mapping function to apply if this {@code Result} is successful
+     * @param failureMapper the mapping function to apply if this {@code Result} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}
+     * @throws NullPointerException if this {@code Result} is successful and {@code successMapper} is {@code null}; or
+     *     if it is failed and {@code failureMapper} is {@code null}
+     * @see #fold(Function, Function)
+     */
+    default int foldToInt(ToIntFunction<? super S> successMapper, ToIntFunction<? super F> failureMapper) {
+        return this.hasSuccess()
+                ? successMapper.applyAsInt(this.orElse(null))
+                : failureMapper.applyAsInt(this.getFailure().orElse(null));
+    }
+
+    /**
+     * Collapses this {@code Result} into a single {@code long} value by mapping either its success or its failure
+     * value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Server, String&gt; r = connect();
+     * long x = r.foldToLong(Server::getTraffic, f -&gt; 0L);</code>
+     * </pre>
+     *
+     * @implSpec The default implementation behaves like {@link #fold(Function, Function)}. Implementations should
+     *     override it to avoid creating any intermediate objects.
+     * @param successMapper the mapping function to apply if this {@code Result} is successful
+     * @param failureMapper the mapping function to apply if this {@code Result} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}
+     * @throws NullPointerException if this {@code Result} is successful and {@code successMapper} is {@code null}; or
+     *     if it is failed and {@code failureMapper} is {@code null}
+     * @see #fold(Function, Function)
+     */
+    default long foldToLong(ToLongFunction<? super S> successMapper, ToLongFunction<? super F> failureMapper) {
+        return this.hasSuccess()
+                ? successMapper.applyAsLong(this.orElse(null))
+                : failureMapper.applyAsLong(this.getFailure().orElse(null));
+    }
+
+    /**
+     * Collapses this {@code Result} into a single {@code double} value by mapping either its success or its failure
+     * value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Server, String&gt; r = connect();
+     * double x = r.foldToDouble(Server::getLoad, f -&gt; Double.NaN);</code>
+     * </pre>
+     *
+     * @implSpec The default implementation behaves like {@link #fold(Function, Function)}. Implementations should
+     *     override it to avoid creating any intermediate objects.
+     * @param successMapper the mapping function to apply if this {@code Result} is successful
+     * @param failureMapper the mapping function to apply if this {@code Result} is failed
+     * @return the value produced by either {@code successMapper} or {@code failureMapper}
+     * @throws NullPointerException if this {@code Result} is successful and {@code successMapper} is {@code null}; or
+     *     if it is failed and {@code failureMapper} is {@code null}
+     * @see #fold(Function, Function)
+     */
+    default double foldToDouble(ToDoubleFunction<? super S> successMapper, ToDoubleFunction<? super F> failureMapper) {
+        return this.hasSuccess()
+                ? successMapper.applyAsDouble(this.orElse(null))
+                : failureMapper.applyAsDouble(this.getFailure().orElse(null));
+    }
+
     /**
      * Returns this {@code Result}'s success value as a possibly-empty {@link Stream}.
      * <p>
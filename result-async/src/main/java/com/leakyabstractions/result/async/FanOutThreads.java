@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Provides the threads that run fan-out tasks.
+ * <p>
+ * This class uses the fallback executor service given by the caller. It is replaced on JDK 21 and later
+ * (multi-release JAR) by one that runs each task on a new virtual thread.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class FanOutThreads {
+
+    private FanOutThreads() {
+        // Not intended to be instantiated
+    }
+
+    static ExecutorService open(ExecutorService fallback) {
+        return fallback;
+    }
+
+    static void close(ExecutorService executor) {
+        // The fallback executor service belongs to the caller
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Caches successful and failed results, with separate limits for each kind.
+ * <p>
+ * Failed results, such as <em>not found</em> or <em>rate limited</em>, can be cached for a short time to avoid
+ * hammering a downstream service, while successful results are kept for longer. Each kind has its own maximum size
+ * and time to live. Results are classified with {@link Result#hasFailure()}, and cached instances are returned as they
+ * were stored.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultCache&lt;String, User, Error&gt; cache = ResultCache.&lt;String, User, Error&gt;builder()
+ *         .maximumSuccesses(10_000).successTtl(Duration.ofMinutes(10))
+ *         .maximumFailures(1_000).failureTtl(Duration.ofSeconds(5))
+ *         .build();
+ * Result&lt;User, Error&gt; user = cache.get(id, directory::findUser);</code>
+ * </pre>
+ * <p>
+ * Lookups are lock-free. When a kind of result exceeds its maximum size, entries are evicted with the CLOCK policy,
+ * an approximation of least-recently-used eviction: an entry that has been read since it was last considered for
+ * eviction gets a second chance. Expired entries are removed when they are read or considered for eviction.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <K> the type of the keys
+ * @param <S> the success type of the cached results
+ * @param <F> the failure type of the cached results
+ * @see Result
+ */
+public final class ResultCache<K, S, F> {
+
+    private final ConcurrentHashMap<K, Entry<K, S, F>> entries = new ConcurrentHashMap<>();
+    private final Segment successes;
+    private final Segment failures;
+    private final LongSupplier ticker;
+
+    private ResultCache(Builder<K, S, F> builder) {
+        this.successes = new Segment(builder.maximumSuccesses, builder.successTtl);
+        this.failures = new Segment(builder.maximumFailures, builder.failureTtl);
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Creates a new builder of result caches.
+     * <p>
+     * By default, up to 1024 successful results are cached for ever, and failed results are not cached at all.
+     *
+     * @param <K> the type of the keys
+     * @param <S> the success type of the cached results
+     * @param <F> the failure type of the cached results
+     * @return the new builder
+     */
+    public static <K, S, F> Builder<K, S, F> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the cached result for the given key.
+     *
+     * @param key the key whose cached result is to be returned
+     * @return the cached result, or {@code null} if there is none or it has expired
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public Result<S, F> getIfPresent(K key) {
+        final Entry<K, S, F> entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(this.ticker.getAsLong())) {
+            this.remove(entry);
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.result;
+    }
+
+    /**
+     * Returns the cached result for the given key, loading and caching it first if needed.
+     * <p>
+     * The loader is invoked without holding any locks. If several threads miss the same key at the same time, each of
+     * them invokes the loader, and the last result is cached.
+     *
+     * @param key the key whose cached result is to be returned
+     * @param loader the function that computes the result for {@code key}
+     * @return the cached result, or the new result returned by {@code loader}
+     * @throws NullPointerException if {@code key} or {@code loader} is {@code null}; or if the loader returns
+     *     {@code null}
+     */
+    public Result<S, F> get(K key, Function<? super K, ? extends Result<S, F>> loader) {
+        requireNonNull(loader);
+        final Result<S, F> cached = this.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Result<S, F> result = requireNonNull(loader.apply(key), "Loader returned null");
+        this.put(key, result);
+        return result;
+    }
+
+    /**
+     * Caches the given result for the given key, replacing any previously cached result.
+     * <p>
+     * If results of this kind are not cached at all, the previously cached result is removed.
+     *
+     * @param key the key of the result
+     * @param result the result to cache
+     * @throws NullPointerException if {@code key} or {@code result} is {@code null}
+     */
+    public void put(K key, Result<S, F> result) {
+        requireNonNull(key);
+        final Segment segment = result.hasFailure() ? this.failures : this.successes;
+        if (segment.maximumSize == 0) {
+            this.invalidate(key);
+            return;
+        }
+        final Entry<K, S, F> entry = new Entry<>(key, result, segment, this.ticker.getAsLong());
+        final Entry<K, S, F> previous = this.entries.put(key, entry);
+        segment.add(entry);
+        if (previous != null) {
+            previous.segment.release(previous);
+        }
+        segment.evict(this);
+    }
+
+    /**
+     * Removes the cached result for the given key, if any.
+     *
+     * @param key the key whose cached result is to be removed
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public void invalidate(K key) {
+        final Entry<K, S, F> entry = this.entries.remove(key);
+        if (entry != null) {
+            entry.segment.release(entry);
+        }
+    }
+
+    /** Removes all cached results. */
+    public void invalidateAll() {
+        this.entries.forEach((key, entry) -> this.remove(entry));
+    }
+
+    /**
+     * Returns the approximate number of cached results.
+     *
+     * @return the approximate number of cached results, including expired ones that have not been removed yet
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache[size=" + this.size() + "]";
+    }
+
+    private void remove(Entry<K, S, F> entry) {
+        if (this.entries.remove(entry.key, entry)) {
+            entry.segment.release(entry);
+        }
+    }
+
+    /** A cached result. */
+    private static final class Entry<K, S, F> {
+
+        final K key;
+        final Result<S, F> result;
+        final Segment segment;
+        final long created;
+        volatile boolean referenced;
+        volatile boolean dead;
+
+        Entry(K key, Result<S, F> result, Segment segment, long created) {
+            this.key = key;
+            this.result = result;
+            this.segment = segment;
+            this.created = created;
+        }
+
+        boolean isExpired(long now) {
+            return now - this.created >= this.segment.ttl;
+        }
+    }
+
+    /** The eviction queue for one kind of result. */
+    private static final class Segment {
+
+        final int maximumSize;
+        final long ttl;
+        final ConcurrentLinkedQueue<Entry<?, ?, ?>> queue = new ConcurrentLinkedQueue<>();
+        // Live entries only; dead entries stay queued until a sweep discards them
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicInteger queued = new AtomicInteger();
+
+        Segment(int maximumSize, long ttl) {
+            this.maximumSize = maximumSize;
+            this.ttl = ttl;
+        }
+
+        void add(Entry<?, ?, ?> entry) {
+            this.queue.add(entry);
+            this.queued.incrementAndGet();
+            this.size.incrementAndGet();
+        }
+
+        // Invoked exactly once per entry, by the thread that removed it from the cache
+        void release(Entry<?, ?, ?> entry) {
+            entry.dead = true;
+            this.size.decrementAndGet();
+        }
+
+        void evict(ResultCache<?, ?, ?> cache) {
+            if (this.size.get() <= this.maximumSize && this.queued.get() - this.size.get() <= this.maximumSize) {
+                return;
+            }
+            synchronized (this) {
+                final long now = cache.ticker.getAsLong();
+                // Every entry is visited at most twice per sweep, since it gets at most one second chance
+                long visits = 2L * this.queued.get();
+                while (visits-- > 0 && this.queued.get() > this.maximumSize) {
+                    final Entry<?, ?, ?> entry = this.queue.poll();
+                    if (entry == null) {
+                        return;
+                    }
+                    this.queued.decrementAndGet();
+                    if (entry.dead) {
+                        continue;
+                    }
+                    final boolean full = this.size.get() > this.maximumSize;
+                    if (!entry.isExpired(now) && (!full || entry.referenced)) {
+                        if (full) {
+                            entry.referenced = false;
+                        }
+                        this.queue.add(entry);
+                        this.queued.incrementAndGet();
+                        continue;
+                    }
+                    this.evict(cache, entry);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <K> void evict(ResultCache<K, ?, ?> cache, Entry<?, ?, ?> entry) {
+            if (cache.entries.remove((K) entry.key, entry)) {
+                this.release(entry);
+            }
+        }
+    }
+
+    /**
+     * Builds {@link ResultCache} instances.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <K> the type of the keys
+     * @param <S> the success type of the cached results
+     * @param <F> the failure type of the cached results
+     */
+    public static final class Builder<K, S, F> {
+
+        private int maximumSuccesses = 1024;
+        private long successTtl = Long.MAX_VALUE;
+        private int maximumFailures;
+        private long failureTtl = Long.MAX_VALUE;
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder() {
+            // Use ResultCache.builder()
+        }
+
+        /**
+         * Sets the maximum number of successful results to cache.
+         *
+         * @param maximumSize the maximum number of successful results; zero to not cache them at all
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is negative
+         */
+        public Builder<K, S, F> maximumSuccesses(int maximumSize) {
+            this.maximumSuccesses = checkSize(maximumSize);
+            return this;
+        }
+
+        /**
+         * Sets how long successful results stay cached.
+         *
+         * @param ttl the time to live of successful results
+         * @return this builder
+         * @throws NullPointerException if {@code ttl} is {@code null}
+         * @throws IllegalArgumentException if {@code ttl} is not positive
+         */
+        public Builder<K, S, F> successTtl(Duration ttl) {
+            this.successTtl = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of failed results to cache.
+         *
+         * @param maximumSize the maximum number of failed results; zero to not cache them at all
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is negative
+         */
+        public Builder<K, S, F> maximumFailures(int maximumSize) {
+            this.maximumFailures = checkSize(maximumSize);
+            return this;
+        }
+
+        /**
+         * Sets how long failed results stay cached.
+         *
+         * @param ttl the time to live of failed results
+         * @return this builder
+         * @throws NullPointerException if {@code ttl} is {@code null}
+         * @throws IllegalArgumentException if {@code ttl} is not positive
+         */
+        public Builder<K, S, F> failureTtl(Duration ttl) {
+            this.failureTtl = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets the source of time, in nanoseconds, used to expire cached results.
+         * <p>
+         * By default, {@link System#nanoTime()} is used.
+         *
+         * @param ticker the source of time
+         * @return this builder
+         * @throws NullPointerException if {@code ticker} is {@code null}
+         */
+        public Builder<K, S, F> ticker(LongSupplier ticker) {
+            this.ticker = requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * Creates a new result cache.
+         *
+         * @return the new result cache
+         */
+        public ResultCache<K, S, F> build() {
+            return new ResultCache<>(this);
+        }
+
+        private static int checkSize(int maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Negative maximum size: " + maximumSize);
+            }
+            return maximumSize;
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("Non-positive time to live: " + ttl);
+            }
+            return ttl.getSeconds() >= Long.MAX_VALUE / 1_000_000_000L ? Long.MAX_VALUE : ttl.toNanos();
+        }
+    }
+}
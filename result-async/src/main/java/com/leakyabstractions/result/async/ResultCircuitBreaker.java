@@ -0,0 +1,407 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Stops calling an operation that keeps returning failed results, and lets it recover.
+ * <p>
+ * A circuit breaker is {@link State#CLOSED closed} while the operation works. It records the outcome of the latest
+ * calls in a sliding window; when the failure rate reaches a threshold, it {@link State#OPEN opens}. While open, calls
+ * are not made: a preallocated failed result is returned immediately instead. After a while, the circuit breaker
+ * becomes {@link State#HALF_OPEN half-open} and lets a few trial calls through. If all of them succeed, it closes
+ * again; if any of them fails, it opens again.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultCircuitBreaker&lt;Error&gt; breaker = ResultCircuitBreaker.builder(Error.UNAVAILABLE).build();
+ * Result&lt;Stock, Error&gt; stock = breaker.call(() -&gt; inventory.check(sku));</code>
+ * </pre>
+ * <p>
+ * Failures are the failed results returned by the operation, as classified by {@link Result#hasFailure()}, so no
+ * exceptions are involved. A predicate can exclude failures that do not indicate a problem with the operation, such as
+ * <em>not found</em>. State transitions are made with compare-and-set, so calls never wait for each other.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the failure type of the results
+ * @see Result
+ */
+public final class ResultCircuitBreaker<F> {
+
+    /** Enumerates the states of a circuit breaker. */
+    public enum State {
+
+        /** Calls are made and their outcomes are recorded. */
+        CLOSED,
+
+        /** Calls are not made. */
+        OPEN,
+
+        /** A limited number of trial calls are made. */
+        HALF_OPEN
+    }
+
+    private final Result<?, F> rejection;
+    private final Predicate<? super F> isRecorded;
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openDuration;
+    private final int trialCalls;
+    private final LongSupplier ticker;
+    private final AtomicReference<Phase> phase;
+
+    private ResultCircuitBreaker(Builder<F> builder) {
+        this.rejection = Results.failure(builder.openFailure);
+        this.isRecorded = builder.isRecorded;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.openDuration = builder.openDuration;
+        this.trialCalls = builder.trialCalls;
+        this.ticker = builder.ticker;
+        this.phase = new AtomicReference<>(new Closed(this.windowSize));
+    }
+
+    /**
+     * Creates a new builder of circuit breakers.
+     * <p>
+     * By default, the circuit breaker opens when at least half of the last 100 calls failed, provided that at least 10
+     * calls were recorded. It stays open for 30 seconds, and then lets 5 trial calls through.
+     *
+     * @param <F> the failure type of the results
+     * @param openFailure the failure value of the result returned while the circuit breaker is open
+     * @return the new builder
+     * @throws NullPointerException if {@code openFailure} is {@code null}
+     */
+    public static <F> Builder<F> builder(F openFailure) {
+        return new Builder<>(requireNonNull(openFailure));
+    }
+
+    /**
+     * Calls the given operation, unless this circuit breaker is open.
+     * <p>
+     * If the operation throws an exception, it is recorded as a failure and rethrown.
+     *
+     * @param <S> the success type of the result
+     * @param operation the operation to call
+     * @return the result returned by the operation; or a failed result holding the open failure value if this circuit
+     *     breaker is open
+     * @throws NullPointerException if {@code operation} is {@code null}, or if it returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <S> Result<S, F> call(Supplier<? extends Result<S, F>> operation) {
+        requireNonNull(operation);
+        final Phase acquired = this.acquire();
+        if (acquired == null) {
+            return (Result<S, F>) this.rejection;
+        }
+        final Result<S, F> result;
+        try {
+            result = requireNonNull(operation.get(), "Operation returned null");
+        } catch (RuntimeException | Error e) {
+            this.record(acquired, true);
+            throw e;
+        }
+        this.record(acquired, result.hasFailure() && this.isRecorded.test(result.getFailure().orElse(null)));
+        return result;
+    }
+
+    /**
+     * Returns the current state of this circuit breaker.
+     * <p>
+     * An open circuit breaker only becomes half-open when a call is attempted after the open duration has elapsed.
+     *
+     * @return the current state of this circuit breaker
+     */
+    public State getState() {
+        return this.phase.get().state();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCircuitBreaker[" + this.getState() + "]";
+    }
+
+    private Phase acquire() {
+        for (;;) {
+            final Phase current = this.phase.get();
+            if (current instanceof Closed) {
+                return current;
+            }
+            if (current instanceof HalfOpen) {
+                return ((HalfOpen) current).tryAcquire() ? current : null;
+            }
+            if (this.ticker.getAsLong() - ((Open) current).openedAt < this.openDuration) {
+                return null;
+            }
+            this.phase.compareAndSet(current, new HalfOpen(this.trialCalls));
+        }
+    }
+
+    private void record(Phase acquired, boolean failure) {
+        if (acquired instanceof Closed) {
+            if (((Closed) acquired).record(failure, this.minimumCalls, this.failureRateThreshold)) {
+                this.phase.compareAndSet(acquired, new Open(this.ticker.getAsLong()));
+            }
+        } else if (failure) {
+            this.phase.compareAndSet(acquired, new Open(this.ticker.getAsLong()));
+        } else if (((HalfOpen) acquired).successes.incrementAndGet() >= this.trialCalls) {
+            this.phase.compareAndSet(acquired, new Closed(this.windowSize));
+        }
+    }
+
+    /** A state of a circuit breaker, along with its data. Every transition creates a new phase. */
+    private abstract static class Phase {
+
+        abstract State state();
+    }
+
+    /** A closed phase, with its sliding window of outcomes. */
+    private static final class Closed extends Phase {
+
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        final AtomicIntegerArray outcomes;
+        final AtomicLong calls = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+
+        Closed(int windowSize) {
+            this.outcomes = new AtomicIntegerArray(windowSize);
+        }
+
+        @Override
+        State state() {
+            return State.CLOSED;
+        }
+
+        boolean record(boolean failure, int minimumCalls, double threshold) {
+            final int size = this.outcomes.length();
+            final long call = this.calls.getAndIncrement();
+            final int previous = this.outcomes.getAndSet((int) (call % size), failure ? FAILURE : SUCCESS);
+            if (failure && previous != FAILURE) {
+                this.failures.incrementAndGet();
+            } else if (!failure && previous == FAILURE) {
+                this.failures.decrementAndGet();
+            }
+            if (!failure) {
+                return false;
+            }
+            final long recorded = Math.min(call + 1, size);
+            return recorded >= minimumCalls && this.failures.get() >= threshold * recorded;
+        }
+    }
+
+    /** An open phase. */
+    private static final class Open extends Phase {
+
+        final long openedAt;
+
+        Open(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        @Override
+        State state() {
+            return State.OPEN;
+        }
+    }
+
+    /** A half-open phase, with its trial calls. */
+    private static final class HalfOpen extends Phase {
+
+        final AtomicInteger permits;
+        final AtomicInteger successes = new AtomicInteger();
+
+        HalfOpen(int trialCalls) {
+            this.permits = new AtomicInteger(trialCalls);
+        }
+
+        @Override
+        State state() {
+            return State.HALF_OPEN;
+        }
+
+        boolean tryAcquire() {
+            // Stops at zero, so that rejected calls cannot make the permits wrap around
+            for (;;) {
+                final int available = this.permits.get();
+                if (available == 0) {
+                    return false;
+                }
+                if (this.permits.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds {@link ResultCircuitBreaker} instances.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <F> the failure type of the results
+     */
+    public static final class Builder<F> {
+
+        private final F openFailure;
+        private Predicate<? super F> isRecorded = failure -> true;
+        private double failureRateThreshold = 0.5;
+        private int windowSize = 100;
+        private int minimumCalls = 10;
+        private long openDuration = TimeUnit.SECONDS.toNanos(30);
+        private int trialCalls = 5;
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder(F openFailure) {
+            this.openFailure = openFailure;
+        }
+
+        /**
+         * Sets the predicate that decides whether a failure value counts as a failed call.
+         * <p>
+         * Failures that do not count are recorded as successful calls. By default, all failures count.
+         *
+         * @param isRecorded the predicate that decides whether a failure value counts as a failed call
+         * @return this builder
+         * @throws NullPointerException if {@code isRecorded} is {@code null}
+         */
+        public Builder<F> recordIf(Predicate<? super F> isRecorded) {
+            this.isRecorded = requireNonNull(isRecorded);
+            return this;
+        }
+
+        /**
+         * Sets the failure rate at which the circuit breaker opens.
+         *
+         * @param failureRateThreshold the failure rate, greater than zero and at most one
+         * @return this builder
+         * @throws IllegalArgumentException if {@code failureRateThreshold} is out of range
+         */
+        public Builder<F> failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("Failure rate threshold out of range: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of latest calls whose outcomes are used to compute the failure rate.
+         *
+         * @param windowSize the number of calls in the sliding window
+         * @return this builder
+         * @throws IllegalArgumentException if {@code windowSize} is less than one
+         */
+        public Builder<F> windowSize(int windowSize) {
+            this.windowSize = checkPositive(windowSize, "Window size");
+            return this;
+        }
+
+        /**
+         * Sets the number of calls to record before the failure rate is taken into account.
+         *
+         * @param minimumCalls the minimum number of recorded calls
+         * @return this builder
+         * @throws IllegalArgumentException if {@code minimumCalls} is less than one
+         */
+        public Builder<F> minimumCalls(int minimumCalls) {
+            this.minimumCalls = checkPositive(minimumCalls, "Minimum calls");
+            return this;
+        }
+
+        /**
+         * Sets how long the circuit breaker stays open before letting trial calls through.
+         *
+         * @param openDuration how long the circuit breaker stays open
+         * @return this builder
+         * @throws NullPointerException if {@code openDuration} is {@code null}
+         * @throws IllegalArgumentException if {@code openDuration} is negative
+         */
+        public Builder<F> openDuration(Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("Negative open duration: " + openDuration);
+            }
+            this.openDuration = openDuration.getSeconds() >= Long.MAX_VALUE / 1_000_000_000L
+                    ? Long.MAX_VALUE
+                    : openDuration.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls to make while half-open.
+         *
+         * @param trialCalls the number of trial calls that must succeed to close the circuit breaker
+         * @return this builder
+         * @throws IllegalArgumentException if {@code trialCalls} is less than one
+         */
+        public Builder<F> trialCalls(int trialCalls) {
+            this.trialCalls = checkPositive(trialCalls, "Trial calls");
+            return this;
+        }
+
+        /**
+         * Sets the source of time, in nanoseconds, used to measure how long the circuit breaker stays open.
+         * <p>
+         * By default, {@link System#nanoTime()} is used.
+         *
+         * @param ticker the source of time
+         * @return this builder
+         * @throws NullPointerException if {@code ticker} is {@code null}
+         */
+        public Builder<F> ticker(LongSupplier ticker) {
+            this.ticker = requireNonNull(ticker);
+            return this;
+        }
+
+        /**
+         * Creates a new circuit breaker, initially closed.
+         *
+         * @return the new circuit breaker
+         * @throws IllegalStateException if the minimum number of calls is greater than the window size
+         */
+        public ResultCircuitBreaker<F> build() {
+            if (this.minimumCalls > this.windowSize) {
+                throw new IllegalStateException(
+                        "Minimum calls " + this.minimumCalls + " exceed window size " + this.windowSize);
+            }
+            return new ResultCircuitBreaker<>(this);
+        }
+
+        private static int checkPositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+}
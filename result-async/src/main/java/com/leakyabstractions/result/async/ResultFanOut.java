@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Runs many tasks that produce results concurrently, and combines their outcomes.
+ * <p>
+ * On JDK 21 and later (multi-release JAR), each task runs on a new virtual thread. On older runtimes, tasks run on the
+ * given fallback executor service.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;List&lt;Quote&gt;, String&gt; quotes = ResultFanOut.all(suppliers, fallbackExecutor);</code>
+ * </pre>
+ * <p>
+ * As soon as any task produces a failed result, the remaining tasks are cancelled and interrupted, and the failure is
+ * returned without waiting for them to finish.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ */
+public final class ResultFanOut {
+
+    private ResultFanOut() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Runs the given tasks concurrently and waits until all of them succeed or any of them fails.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param tasks the tasks to run
+     * @param fallback the executor service to run tasks on runtimes that do not support virtual threads; it is never
+     *     shut down
+     * @return a successful result holding the success values of all tasks, in task order, if all of them succeed;
+     *     otherwise, a failed result holding the failure value of the first task to fail
+     * @throws NullPointerException if {@code tasks}, any of its elements or {@code fallback} is {@code null}; or if
+     *     any task returns {@code null}
+     * @throws CompletionException if any task throws an exception, wrapping that exception unless it is unchecked
+     * @throws InterruptedException if the current thread is interrupted while waiting; the remaining tasks are
+     *     cancelled
+     */
+    public static <S, F> Result<List<S>, F> all(
+            List<? extends Supplier<? extends Result<? extends S, ? extends F>>> tasks,
+            ExecutorService fallback) throws InterruptedException {
+        requireNonNull(fallback);
+        final int size = tasks.size();
+        if (size == 0) {
+            return Results.success(Collections.emptyList());
+        }
+        final Object[] successes = new Object[size];
+        final List<Future<Result<? extends S, ? extends F>>> futures = new ArrayList<>(size);
+        final ExecutorService executor = FanOutThreads.open(fallback);
+        try {
+            final CompletionService<Result<? extends S, ? extends F>> completion =
+                    new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < size; i++) {
+                final int index = i;
+                final Supplier<? extends Result<? extends S, ? extends F>> task = requireNonNull(tasks.get(i));
+                futures.add(completion.submit(() -> {
+                    final Result<? extends S, ? extends F> result = requireNonNull(task.get(), "result");
+                    if (result.hasSuccess()) {
+                        successes[index] = result.orElse(null);
+                    }
+                    return result;
+                }));
+            }
+            for (int done = 0; done < size; done++) {
+                final Result<? extends S, ? extends F> result = getNow(completion.take());
+                if (!result.hasSuccess()) {
+                    cancel(futures);
+                    return Results.failure(result.getFailure().orElse(null));
+                }
+            }
+        } catch (InterruptedException | RuntimeException | Error e) {
+            cancel(futures);
+            throw e;
+        } finally {
+            FanOutThreads.close(executor);
+        }
+        return Results.success(toList(successes));
+    }
+
+    private static <T> T getNow(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            // Unreachable: the future is already complete
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (final Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> List<S> toList(Object[] successes) {
+        final List<S> list = new ArrayList<>(successes.length);
+        for (final Object success : successes) {
+            list.add((S) success);
+        }
+        return list;
+    }
+}
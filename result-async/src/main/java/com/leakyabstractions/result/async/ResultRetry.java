@@ -0,0 +1,270 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Retries operations that return failed results, with exponential backoff and jitter.
+ * <p>
+ * Retry policies are immutable and can be shared. Attempts are scheduled on a {@link ScheduledExecutorService}, so no
+ * thread sleeps while waiting for the next attempt.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultRetry retry = ResultRetry.builder().maxAttempts(5).initialDelay(Duration.ofMillis(50)).build();
+ * ResultStage&lt;Quote, Error&gt; quote = retry.run(() -&gt; broker.quote(symbol), Error::isTransient,
+ *         scheduler);</code>
+ * </pre>
+ * <p>
+ * Whether a failure is worth retrying is decided by a predicate, just like {@link Result#recover(Predicate,
+ * java.util.function.Function) recover} decides whether a failure is recoverable. Successful results, failures that are
+ * not retryable, and the failure of the last attempt are returned as they are. Exceptions thrown by the operation are
+ * not retried: they complete the returned stage exceptionally.
+ * <p>
+ * The delay before retry <em>n</em> is {@code initialDelay * multiplier^(n - 1)}, capped at {@code maxDelay}, and
+ * then reduced by a random amount of up to {@code jitter} times itself. Jitter keeps many clients that failed at the
+ * same time from retrying at the same time.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result#recover(Predicate, java.util.function.Function)
+ */
+public final class ResultRetry {
+
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final double jitter;
+
+    private ResultRetry(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+    }
+
+    /**
+     * Creates a new builder of retry policies.
+     * <p>
+     * By default, operations are attempted up to 3 times; the first retry is delayed 100 milliseconds, and each
+     * subsequent one twice as long, up to 10 seconds, with 50% jitter.
+     *
+     * @return the new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the given operation, retrying it while it returns a retryable failure.
+     * <p>
+     * The first attempt is also run on the given scheduler, so this method never blocks.
+     *
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param operation the operation to run
+     * @param isRetryable the predicate that decides whether a failure value is worth retrying
+     * @param scheduler the scheduler to run attempts on; it is never shut down
+     * @return a new, unbound result stage that completes with the result of the last attempt
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public <S, F> ResultStage<S, F> run(
+            Supplier<? extends Result<S, F>> operation,
+            Predicate<? super F> isRetryable,
+            ScheduledExecutorService scheduler) {
+        final Attempts<S, F> attempts =
+                new Attempts<>(requireNonNull(operation), requireNonNull(isRetryable), requireNonNull(scheduler));
+        attempts.schedule(0);
+        return ResultStage.of(attempts.future);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultRetry[maxAttempts=" + this.maxAttempts + ", initialDelay=" + Duration.ofNanos(this.initialDelay)
+                + ", maxDelay=" + Duration.ofNanos(this.maxDelay) + ", multiplier=" + this.multiplier + ", jitter="
+                + this.jitter + "]";
+    }
+
+    private long delay(int retry) {
+        final double exponential = this.initialDelay * Math.pow(this.multiplier, retry - 1);
+        final long delay = exponential >= this.maxDelay ? this.maxDelay : (long) exponential;
+        if (this.jitter == 0) {
+            return delay;
+        }
+        return delay - (long) (delay * this.jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /** The attempts of one run. */
+    private final class Attempts<S, F> implements Runnable {
+
+        final CompletableFuture<Result<S, F>> future = new CompletableFuture<>();
+        final Supplier<? extends Result<S, F>> operation;
+        final Predicate<? super F> isRetryable;
+        final ScheduledExecutorService scheduler;
+        int attempt;
+
+        Attempts(
+                Supplier<? extends Result<S, F>> operation,
+                Predicate<? super F> isRetryable,
+                ScheduledExecutorService scheduler) {
+            this.operation = operation;
+            this.isRetryable = isRetryable;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            try {
+                final Result<S, F> result = requireNonNull(this.operation.get(), "Operation returned null");
+                if (++this.attempt < ResultRetry.this.maxAttempts
+                        && result.hasFailure()
+                        && this.isRetryable.test(result.getFailure().orElse(null))) {
+                    this.schedule(ResultRetry.this.delay(this.attempt));
+                } else {
+                    this.future.complete(result);
+                }
+            } catch (RuntimeException | Error e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+
+        void schedule(long delay) {
+            try {
+                this.scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Builds {@link ResultRetry} policies.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Builder {
+
+        private int maxAttempts = 3;
+        private long initialDelay = TimeUnit.MILLISECONDS.toNanos(100);
+        private long maxDelay = TimeUnit.SECONDS.toNanos(10);
+        private double multiplier = 2;
+        private double jitter = 0.5;
+
+        Builder() {
+            // Use ResultRetry.builder()
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first one.
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAttempts} is less than one
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Maximum attempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the first retry.
+         *
+         * @param initialDelay the delay before the first retry
+         * @return this builder
+         * @throws NullPointerException if {@code initialDelay} is {@code null}
+         * @throws IllegalArgumentException if {@code initialDelay} is negative
+         */
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = toNanos(initialDelay);
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between attempts, before jitter is applied.
+         *
+         * @param maxDelay the maximum delay between attempts
+         * @return this builder
+         * @throws NullPointerException if {@code maxDelay} is {@code null}
+         * @throws IllegalArgumentException if {@code maxDelay} is negative
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Sets the factor by which the delay grows after each retry.
+         *
+         * @param multiplier the factor by which the delay grows
+         * @return this builder
+         * @throws IllegalArgumentException if {@code multiplier} is less than one
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("Multiplier must be at least one: " + multiplier);
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the maximum fraction by which each delay is randomly reduced.
+         *
+         * @param jitter the maximum fraction by which each delay is reduced; zero disables jitter
+         * @return this builder
+         * @throws IllegalArgumentException if {@code jitter} is not between zero and one
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("Jitter must be between zero and one: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Creates a new retry policy.
+         *
+         * @return the new retry policy
+         */
+        public ResultRetry build() {
+            return new ResultRetry(this);
+        }
+
+        private static long toNanos(Duration delay) {
+            if (delay.isNegative()) {
+                throw new IllegalArgumentException("Negative delay: " + delay);
+            }
+            return delay.getSeconds() >= Long.MAX_VALUE / 1_000_000_000L ? Long.MAX_VALUE : delay.toNanos();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Coalesces concurrent computations of results for the same key.
+ * <p>
+ * While a computation for a key is in flight, other callers asking for the same key do not start a new computation.
+ * They wait for the one in flight instead, and all of them receive the same {@code Result} instance. Results are
+ * immutable, so sharing them is safe.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultSingleFlight&lt;String, Price, String&gt; flight = new ResultSingleFlight&lt;&gt;();
+ * Result&lt;Price, String&gt; price = flight.get(sku, () -&gt; pricing.quote(sku));</code>
+ * </pre>
+ * <p>
+ * Nothing is cached: once a computation completes, the next caller for the same key starts a new one. Blocking and
+ * asynchronous callers for the same key share the same computation.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <K> the type of the keys
+ * @param <S> the success type of the results
+ * @param <F> the failure type of the results
+ * @see Result
+ */
+public final class ResultSingleFlight<K, S, F> {
+
+    private final ConcurrentHashMap<K, Flight<S, F>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the result of the computation in flight for the given key, or computes it on the current thread if
+     * there is none.
+     * <p>
+     * If this thread has to wait for a computation in flight, it does so uninterruptibly. A computation must not ask
+     * for the result of its own key, since it would wait for itself forever: such re-entrant calls fail fast instead.
+     *
+     * @param key the key of the computation
+     * @param computation the computation to perform if there is none in flight for {@code key}
+     * @return the result of the computation
+     * @throws NullPointerException if {@code key} or {@code computation} is {@code null}; or if the computation
+     *     returns {@code null}
+     * @throws CompletionException if the computation in flight for {@code key} completes exceptionally
+     * @throws IllegalStateException if the computation in flight for {@code key} is being performed by the current
+     *     thread
+     */
+    public Result<S, F> get(K key, Supplier<? extends Result<S, F>> computation) {
+        requireNonNull(computation);
+        final Thread thread = Thread.currentThread();
+        final Flight<S, F> flight = new Flight<>(thread);
+        final Flight<S, F> existing = this.flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (existing.owner == thread) {
+                throw new IllegalStateException("Computation in flight depends on itself");
+            }
+            return existing.future.join();
+        }
+        try {
+            final Result<S, F> result = requireNonNull(computation.get(), "Computation returned null");
+            flight.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns a future that completes with the result of the computation in flight for the given key, starting it if
+     * there is none.
+     * <p>
+     * Every caller receives its own future, so completing or cancelling it does not affect other callers.
+     *
+     * @param key the key of the computation
+     * @param computation the computation to start if there is none in flight for {@code key}
+     * @return a new future that completes with the result of the computation
+     * @throws NullPointerException if {@code key} or {@code computation} is {@code null}
+     */
+    public CompletableFuture<Result<S, F>> getAsync(
+            K key, Supplier<? extends CompletionStage<? extends Result<S, F>>> computation) {
+        requireNonNull(computation);
+        final Flight<S, F> flight = new Flight<>(Thread.currentThread());
+        final Flight<S, F> existing = this.flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing.future.thenApply(Function.identity());
+        }
+        try {
+            final CompletionStage<? extends Result<S, F>> stage = computation.get();
+            // Once started, the computation no longer runs on this thread
+            flight.owner = null;
+            stage.whenComplete((result, error) -> {
+                this.flights.remove(key, flight);
+                if (error != null) {
+                    flight.future.completeExceptionally(error);
+                } else if (result == null) {
+                    flight.future.completeExceptionally(new NullPointerException("Computation returned null"));
+                } else {
+                    flight.future.complete(result);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            this.flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+        }
+        return flight.future.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns the number of computations currently in flight.
+     *
+     * @return the number of computations currently in flight
+     */
+    public int inFlight() {
+        return this.flights.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSingleFlight[inFlight=" + this.inFlight() + "]";
+    }
+
+    /** A computation in flight. */
+    private static final class Flight<S, F> {
+
+        final CompletableFuture<Result<S, F>> future = new CompletableFuture<>();
+        // The thread performing the computation, while it does so synchronously
+        volatile Thread owner;
+
+        Flight(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
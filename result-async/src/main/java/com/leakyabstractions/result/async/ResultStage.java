@@ -0,0 +1,317 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Represents a {@link Result} that will be available in the future.
+ * <p>
+ * A result stage mirrors the operations of {@code Result}, applying them when the underlying result becomes available.
+ * Failures flow through stages as regular values: they never complete a stage exceptionally, so they are not wrapped in
+ * {@link java.util.concurrent.CompletionException} and no stack traces are captured.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultStage&lt;Order, String&gt; order = ResultStage.supplyAsync(() -&gt; findCart(id), executor)
+ *         .filter(Cart::isNotEmpty, cart -&gt; "Empty cart")
+ *         .flatMapSuccess(cart -&gt; checkout(cart))
+ *         .ifFailure(log::warn);</code>
+ * </pre>
+ * <p>
+ * None of the operations block. Each stage may be bound to an {@link Executor}: operations on a bound stage run on that
+ * executor, and those on an unbound stage run on the thread that completes the previous stage, or the calling thread
+ * if it is already complete. Stages returned by operations are bound to the same executor.
+ * <p>
+ * Exceptions thrown by the functions passed to these operations, unlike failures, do complete the resulting stage
+ * exceptionally.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ * @see Result
+ */
+public final class ResultStage<S, F> {
+
+    private final CompletableFuture<Result<S, F>> future;
+    private final Executor executor;
+
+    private ResultStage(CompletableFuture<Result<S, F>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a new, unbound result stage that completes when the given completion stage does.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param stage the completion stage that will hold the result
+     * @return a new result stage that completes when {@code stage} does
+     * @throws NullPointerException if {@code stage} is {@code null}
+     */
+    public static <S, F> ResultStage<S, F> of(CompletionStage<? extends Result<S, F>> stage) {
+        return new ResultStage<>(stage.<Result<S, F>>thenApply(ResultStage::requireResult).toCompletableFuture(), null);
+    }
+
+    /**
+     * Creates a new, unbound result stage that is already completed with the given result.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param result the result to hold
+     * @return a new result stage that is already completed with {@code result}
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public static <S, F> ResultStage<S, F> completed(Result<S, F> result) {
+        return new ResultStage<>(CompletableFuture.completedFuture(requireNonNull(result)), null);
+    }
+
+    /**
+     * Creates a new, unbound result stage that is already completed with a successful result.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param success the success value
+     * @return a new result stage that is already completed with a successful result holding {@code success}
+     * @throws NullPointerException if {@code success} is {@code null}
+     */
+    public static <S, F> ResultStage<S, F> success(S success) {
+        return completed(Results.success(success));
+    }
+
+    /**
+     * Creates a new, unbound result stage that is already completed with a failed result.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param failure the failure value
+     * @return a new result stage that is already completed with a failed result holding {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     */
+    public static <S, F> ResultStage<S, F> failure(F failure) {
+        return completed(Results.failure(failure));
+    }
+
+    /**
+     * Creates a new result stage, bound to the given executor, that completes with the result obtained by running the
+     * given supplier on that executor.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param supplier the supplier of the result
+     * @param executor the executor to run {@code supplier} and subsequent operations
+     * @return a new result stage that completes with the result obtained from {@code supplier}
+     * @throws NullPointerException if {@code supplier} or {@code executor} is {@code null}
+     */
+    public static <S, F> ResultStage<S, F> supplyAsync(Supplier<? extends Result<S, F>> supplier, Executor executor) {
+        requireNonNull(supplier);
+        final CompletableFuture<Result<S, F>> future =
+                CompletableFuture.supplyAsync(() -> requireResult(supplier.get()), requireNonNull(executor));
+        return new ResultStage<>(future, executor);
+    }
+
+    /**
+     * Returns a result stage that completes with the same result, bound to the given executor.
+     *
+     * @param executor the executor to run subsequent operations
+     * @return a result stage that completes with the same result, bound to {@code executor}
+     * @throws NullPointerException if {@code executor} is {@code null}
+     */
+    public ResultStage<S, F> withExecutor(Executor executor) {
+        return new ResultStage<>(this.future, requireNonNull(executor));
+    }
+
+    /**
+     * Transforms the eventual success value.
+     *
+     * @param <S2> the type of the new success value
+     * @param mapper the mapping function that produces a new success value
+     * @return a new result stage that completes with the transformed result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see Result#mapSuccess(Function)
+     */
+    public <S2> ResultStage<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        requireNonNull(mapper);
+        return this.apply(result -> result.mapSuccess(mapper));
+    }
+
+    /**
+     * Transforms the eventual failure value.
+     *
+     * @param <F2> the type of the new failure value
+     * @param mapper the mapping function that produces a new failure value
+     * @return a new result stage that completes with the transformed result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see Result#mapFailure(Function)
+     */
+    public <F2> ResultStage<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        requireNonNull(mapper);
+        return this.apply(result -> result.mapFailure(mapper));
+    }
+
+    /**
+     * Transforms the eventual success value into a new result stage.
+     * <p>
+     * If the result is failed, the mapper is not invoked and the resulting stage completes with the same failure.
+     *
+     * @param <S2> the type of the new success value
+     * @param mapper the mapping function that produces a new result stage
+     * @return a new result stage that completes with the result of the stage produced by {@code mapper}; or with the
+     *     same failure
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see Result#flatMapSuccess(Function)
+     */
+    public <S2> ResultStage<S2, F> flatMapSuccess(Function<? super S, ? extends ResultStage<S2, F>> mapper) {
+        requireNonNull(mapper);
+        final Function<Result<S, F>, CompletionStage<Result<S2, F>>> composer = result -> {
+            if (!result.hasSuccess()) {
+                return CompletableFuture.completedFuture(castFailure(result));
+            }
+            final ResultStage<S2, F> next = requireNonNull(mapper.apply(result.orElse(null)), "stage");
+            return next.future;
+        };
+        return new ResultStage<>(
+                this.executor == null
+                        ? this.future.thenCompose(composer)
+                        : this.future.thenComposeAsync(composer, this.executor),
+                this.executor);
+    }
+
+    /**
+     * Transforms eventual recoverable failures into successes.
+     *
+     * @param isRecoverable the predicate to apply to the failure value
+     * @param mapper the mapping function that produces a success value from a recoverable failure value
+     * @return a new result stage that completes with the recovered result
+     * @throws NullPointerException if {@code isRecoverable} or {@code mapper} is {@code null}
+     * @see Result#recover(Predicate, Function)
+     */
+    public ResultStage<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        requireNonNull(isRecoverable);
+        requireNonNull(mapper);
+        return this.apply(result -> result.recover(isRecoverable, mapper));
+    }
+
+    /**
+     * Transforms eventual non-acceptable successes into failures.
+     *
+     * @param isAcceptable the predicate to apply to the success value
+     * @param mapper the mapping function that produces a failure value from a non-acceptable success value
+     * @return a new result stage that completes with the filtered result
+     * @throws NullPointerException if {@code isAcceptable} or {@code mapper} is {@code null}
+     * @see Result#filter(Predicate, Function)
+     */
+    public ResultStage<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        requireNonNull(isAcceptable);
+        requireNonNull(mapper);
+        return this.apply(result -> result.filter(isAcceptable, mapper));
+    }
+
+    /**
+     * Performs the given action with the eventual success value, if any.
+     *
+     * @param action the action to be performed with the success value
+     * @return a new result stage that completes with the same result, after {@code action} is performed
+     * @throws NullPointerException if {@code action} is {@code null}
+     * @see Result#ifSuccess(Consumer)
+     */
+    public ResultStage<S, F> ifSuccess(Consumer<? super S> action) {
+        requireNonNull(action);
+        return this.apply(result -> result.ifSuccess(action));
+    }
+
+    /**
+     * Performs the given action with the eventual failure value, if any.
+     *
+     * @param action the action to be performed with the failure value
+     * @return a new result stage that completes with the same result, after {@code action} is performed
+     * @throws NullPointerException if {@code action} is {@code null}
+     * @see Result#ifFailure(Consumer)
+     */
+    public ResultStage<S, F> ifFailure(Consumer<? super F> action) {
+        requireNonNull(action);
+        return this.apply(result -> result.ifFailure(action));
+    }
+
+    /**
+     * Checks if this stage is complete, either normally or exceptionally.
+     *
+     * @return {@code true} if this stage is complete; {@code false} otherwise
+     */
+    public boolean isDone() {
+        return this.future.isDone();
+    }
+
+    /**
+     * Returns a {@code CompletableFuture} that completes when this stage does.
+     * <p>
+     * Completing the returned future does not affect this stage.
+     *
+     * @return a new {@code CompletableFuture} that completes when this stage does
+     */
+    public CompletableFuture<Result<S, F>> toCompletableFuture() {
+        return this.future.thenApply(Function.identity());
+    }
+
+    @Override
+    public String toString() {
+        if (!this.future.isDone()) {
+            return "ResultStage[pending]";
+        }
+        // Read the outcome only once, so it cannot change between checks
+        try {
+            return "ResultStage[" + this.future.getNow(null) + "]";
+        } catch (CancellationException e) {
+            return "ResultStage[failed: " + e + "]";
+        } catch (CompletionException e) {
+            return "ResultStage[failed: " + (e.getCause() != null ? e.getCause() : e) + "]";
+        }
+    }
+
+    private <S2, F2> ResultStage<S2, F2> apply(Function<Result<S, F>, Result<S2, F2>> operation) {
+        final Function<Result<S, F>, Result<S2, F2>> checked = result -> requireResult(operation.apply(result));
+        return new ResultStage<>(
+                this.executor == null
+                        ? this.future.thenApply(checked)
+                        : this.future.thenApplyAsync(checked, this.executor),
+                this.executor);
+    }
+
+    private static <T> T requireResult(T result) {
+        return requireNonNull(result, "result");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, S2, F> Result<S2, F> castFailure(Result<S, F> failure) {
+        // Safe: a failed result never yields a success value
+        return (Result<S2, F>) (Result<?, F>) failure;
+    }
+}
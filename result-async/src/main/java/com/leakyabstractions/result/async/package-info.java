@@ -0,0 +1,23 @@
+/**
+ * Asynchronous and concurrent utilities for the Result API
+ * <p>
+ * <img src="https://dev.leakyabstractions.com/result-api/result.svg" alt="Result Library">
+ * <h2>Result Library Async</h2>
+ * <p>
+ * This package provides {@link com.leakyabstractions.result.async.ResultStage}, a {@link
+ * com.leakyabstractions.result.api.Result} that will be available in the future.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultStage&lt;Invoice, String&gt; invoice = ResultStage.supplyAsync(() -&gt; findOrder(id), executor)
+ *         .flatMapSuccess(order -&gt; billing.charge(order));</code>
+ * </pre>
+ * <p>
+ * Failures flow between stages as regular values, instead of exceptions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.api Introduction
+ * @see com.leakyabstractions.result.async.ResultStage
+ */
+
+package com.leakyabstractions.result.async;
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Splits a {@link Flow} of results into a flow of success values and a separate flow of failure values.
+ * <p>
+ * Success values are published to the subscriber of this processor, and failure values to the subscriber of
+ * {@link #failures()}, which acts as a dead-letter channel. Each side has its own subscription, queue and
+ * backpressure.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultFlowProcessor&lt;Event, String&gt; processor = new ResultFlowProcessor&lt;&gt;(executor, 1024);
+ * processor.failures().subscribe(deadLetters);
+ * processor.subscribe(indexer);
+ * events.subscribe(processor);</code>
+ * </pre>
+ * <p>
+ * Items are requested from upstream only as fast as the success subscriber demands them. Failures do not count
+ * against that demand, so a failed result is replaced by requesting one more item. Success values are delivered by
+ * whichever thread makes them deliverable, either the upstream thread or the thread requesting more of them.
+ * <p>
+ * Failure values are never delivered on the upstream thread: they are buffered and handed to the failure subscriber by
+ * a task running on the given executor, as the failure subscriber demands them. When the buffer is full, new failures
+ * are dropped and counted, so that a slow failure subscriber never slows down the success side.
+ * <p>
+ * Both sides accept a single subscriber. Cancelling the success subscription cancels the upstream subscription and
+ * completes the failure side once its buffered failures are delivered; cancelling the failure subscription makes this
+ * processor drop all subsequent failures. This class is only available on JDK 9 and later (multi-release JAR).
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success values
+ * @param <F> the type of the failure values
+ * @see Result
+ */
+public final class ResultFlowProcessor<S, F> implements Flow.Processor<Result<? extends S, ? extends F>, S> {
+
+    private final Executor executor;
+    private final int failureCapacity;
+    private final ArrayDeque<S> successQueue = new ArrayDeque<>();
+    private final ArrayDeque<F> failureBuffer = new ArrayDeque<>();
+    private final AtomicBoolean successSubscribed = new AtomicBoolean();
+    private final AtomicBoolean failureSubscribed = new AtomicBoolean();
+    private final AtomicInteger successWork = new AtomicInteger();
+    private final AtomicInteger failureWork = new AtomicInteger();
+    private final Flow.Publisher<F> failures = this::subscribeFailures;
+    private final Runnable failureDelivery = this::deliverFailures;
+
+    // Guarded by this
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super S> successSubscriber;
+    private Flow.Subscriber<? super F> failureSubscriber;
+    private long successDemand;
+    private long upstreamPending;
+    private long failureDemand;
+    private long droppedFailures;
+    private boolean upstreamCancelled;
+    private boolean successCancelled;
+    private boolean successTerminated;
+    private boolean failureCancelled;
+    private boolean failureTerminated;
+    private boolean done;
+    private Throwable error;
+    private Throwable successError;
+    private Throwable failureError;
+
+    /**
+     * Creates a new processor that delivers failures using the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param failureCapacity the maximum number of failures to buffer while the failure subscriber is not demanding
+     *     them
+     * @throws IllegalArgumentException if {@code failureCapacity} is negative
+     */
+    public ResultFlowProcessor(int failureCapacity) {
+        this(ForkJoinPool.commonPool(), failureCapacity);
+    }
+
+    /**
+     * Creates a new processor that delivers failures using the given executor.
+     *
+     * @param executor the executor that delivers failures to the failure subscriber
+     * @param failureCapacity the maximum number of failures to buffer while the failure subscriber is not demanding
+     *     them
+     * @throws NullPointerException if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code failureCapacity} is negative
+     */
+    public ResultFlowProcessor(Executor executor, int failureCapacity) {
+        if (failureCapacity < 0) {
+            throw new IllegalArgumentException("Negative failure capacity: " + failureCapacity);
+        }
+        this.executor = requireNonNull(executor);
+        this.failureCapacity = failureCapacity;
+    }
+
+    /**
+     * Returns the publisher of failure values.
+     *
+     * @return the publisher of failure values
+     */
+    public Flow.Publisher<F> failures() {
+        return this.failures;
+    }
+
+    /**
+     * Returns the number of failures dropped so far, either because the buffer was full or because the failure
+     * subscription was cancelled.
+     *
+     * @return the number of failures dropped so far
+     */
+    public synchronized long droppedFailures() {
+        return this.droppedFailures;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription);
+        synchronized (this) {
+            if (this.upstream == null && !this.done && !this.upstreamCancelled) {
+                this.upstream = subscription;
+                subscription = null;
+            }
+        }
+        if (subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.requestUpstream();
+    }
+
+    @Override
+    public void onNext(Result<? extends S, ? extends F> item) {
+        requireNonNull(item);
+        if (item.hasSuccess()) {
+            final S success = item.orElse(null);
+            synchronized (this) {
+                this.upstreamPending--;
+                if (!this.successCancelled && this.successError == null) {
+                    this.successQueue.add(success);
+                }
+            }
+            this.drainSuccesses();
+            return;
+        }
+        final F failure = item.getFailure().orElse(null);
+        synchronized (this) {
+            this.upstreamPending--;
+            if (this.failureCancelled || this.failureBuffer.size() >= this.failureCapacity) {
+                this.droppedFailures++;
+            } else {
+                this.failureBuffer.add(failure);
+            }
+        }
+        this.drainFailures();
+        this.requestUpstream();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        requireNonNull(throwable);
+        this.terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        this.terminate(null);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super S> subscriber) {
+        requireNonNull(subscriber);
+        if (!this.successSubscribed.compareAndSet(false, true)) {
+            reject(subscriber, "success");
+            return;
+        }
+        subscriber.onSubscribe(new SuccessSubscription());
+        synchronized (this) {
+            this.successSubscriber = subscriber;
+        }
+        this.drainSuccesses();
+        this.requestUpstream();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultFlowProcessor[droppedFailures=" + this.droppedFailures() + "]";
+    }
+
+    private void subscribeFailures(Flow.Subscriber<? super F> subscriber) {
+        requireNonNull(subscriber);
+        if (!this.failureSubscribed.compareAndSet(false, true)) {
+            reject(subscriber, "failure");
+            return;
+        }
+        subscriber.onSubscribe(new FailureSubscription());
+        synchronized (this) {
+            this.failureSubscriber = subscriber;
+        }
+        this.drainFailures();
+    }
+
+    private void terminate(Throwable throwable) {
+        synchronized (this) {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            this.error = throwable;
+        }
+        this.drainSuccesses();
+        this.drainFailures();
+    }
+
+    private void cancelUpstream() {
+        final Flow.Subscription subscription;
+        synchronized (this) {
+            if (this.upstreamCancelled) {
+                return;
+            }
+            this.upstreamCancelled = true;
+            subscription = this.upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        this.drainFailures();
+    }
+
+    private void requestUpstream() {
+        final Flow.Subscription subscription;
+        final long n;
+        synchronized (this) {
+            subscription = this.upstream;
+            n = this.successDemand - this.successQueue.size() - this.upstreamPending;
+            if (subscription == null || this.successSubscriber == null || this.done || this.upstreamCancelled
+                    || n <= 0) {
+                return;
+            }
+            this.upstreamPending += n;
+        }
+        subscription.request(n);
+    }
+
+    private void drainSuccesses() {
+        if (this.successWork.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            for (;;) {
+                final Flow.Subscriber<? super S> subscriber;
+                final S success;
+                final boolean terminate;
+                final Throwable error;
+                synchronized (this) {
+                    subscriber = this.successSubscriber;
+                    if (subscriber == null || this.successCancelled || this.successTerminated) {
+                        break;
+                    }
+                    if (this.successError != null) {
+                        success = null;
+                        terminate = true;
+                        error = this.successError;
+                    } else if (!this.successQueue.isEmpty()) {
+                        if (this.successDemand <= 0) {
+                            break;
+                        }
+                        success = this.successQueue.poll();
+                        this.successDemand--;
+                        terminate = false;
+                        error = null;
+                    } else if (this.done) {
+                        success = null;
+                        terminate = true;
+                        error = this.error;
+                    } else {
+                        break;
+                    }
+                    this.successTerminated = terminate;
+                }
+                if (terminate) {
+                    signalTerminal(subscriber, error);
+                    break;
+                }
+                subscriber.onNext(success);
+            }
+            missed = this.successWork.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainFailures() {
+        if (this.failureWork.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            this.executor.execute(this.failureDelivery);
+        } catch (RejectedExecutionException e) {
+            // This thread still owns the failure side, so it can signal the failure subscriber without racing
+            final Flow.Subscriber<? super F> subscriber;
+            synchronized (this) {
+                this.failureCancelled = true;
+                this.droppedFailures += this.failureBuffer.size();
+                this.failureBuffer.clear();
+                subscriber = this.failureTerminated ? null : this.failureSubscriber;
+                this.failureTerminated = true;
+            }
+            if (subscriber != null) {
+                subscriber.onError(e);
+            }
+        }
+    }
+
+    private void deliverFailures() {
+        int missed = 1;
+        do {
+            for (;;) {
+                final Flow.Subscriber<? super F> subscriber;
+                final F failure;
+                final boolean terminate;
+                final Throwable error;
+                synchronized (this) {
+                    subscriber = this.failureSubscriber;
+                    if (subscriber == null || this.failureCancelled || this.failureTerminated) {
+                        break;
+                    }
+                    if (this.failureError != null) {
+                        failure = null;
+                        terminate = true;
+                        error = this.failureError;
+                        this.droppedFailures += this.failureBuffer.size();
+                        this.failureBuffer.clear();
+                    } else if (!this.failureBuffer.isEmpty()) {
+                        if (this.failureDemand <= 0) {
+                            break;
+                        }
+                        failure = this.failureBuffer.poll();
+                        this.failureDemand--;
+                        terminate = false;
+                        error = null;
+                    } else if (this.done || this.upstreamCancelled) {
+                        failure = null;
+                        terminate = true;
+                        error = this.error;
+                    } else {
+                        break;
+                    }
+                    this.failureTerminated = terminate;
+                }
+                if (terminate) {
+                    signalTerminal(subscriber, error);
+                    break;
+                }
+                subscriber.onNext(failure);
+            }
+            missed = this.failureWork.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private static void signalTerminal(Flow.Subscriber<?> subscriber, Throwable error) {
+        if (error == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(error);
+        }
+    }
+
+    private static void reject(Flow.Subscriber<?> subscriber, String side) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {
+                // Nothing to deliver
+            }
+
+            @Override
+            public void cancel() {
+                // Nothing to cancel
+            }
+        });
+        subscriber.onError(new IllegalStateException("Only one " + side + " subscriber is allowed"));
+    }
+
+    private static long addCapped(long demand, long n) {
+        final long sum = demand + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /** The subscription of the success subscriber. */
+    private final class SuccessSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            final ResultFlowProcessor<S, F> processor = ResultFlowProcessor.this;
+            if (n <= 0) {
+                synchronized (processor) {
+                    if (processor.successError == null) {
+                        processor.successError = new IllegalArgumentException("Non-positive request: " + n);
+                    }
+                    processor.successQueue.clear();
+                }
+                // The error is signalled by the drain loop, so it cannot overlap with a success being delivered
+                processor.drainSuccesses();
+                processor.cancelUpstream();
+                return;
+            }
+            synchronized (processor) {
+                processor.successDemand = addCapped(processor.successDemand, n);
+            }
+            processor.drainSuccesses();
+            processor.requestUpstream();
+        }
+
+        @Override
+        public void cancel() {
+            final ResultFlowProcessor<S, F> processor = ResultFlowProcessor.this;
+            synchronized (processor) {
+                processor.successCancelled = true;
+                processor.successQueue.clear();
+            }
+            processor.cancelUpstream();
+        }
+    }
+
+    /** The subscription of the failure subscriber. */
+    private final class FailureSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            final ResultFlowProcessor<S, F> processor = ResultFlowProcessor.this;
+            synchronized (processor) {
+                if (n <= 0) {
+                    if (processor.failureError == null) {
+                        processor.failureError = new IllegalArgumentException("Non-positive request: " + n);
+                    }
+                } else {
+                    processor.failureDemand = addCapped(processor.failureDemand, n);
+                }
+            }
+            processor.drainFailures();
+        }
+
+        @Override
+        public void cancel() {
+            final ResultFlowProcessor<S, F> processor = ResultFlowProcessor.this;
+            synchronized (processor) {
+                processor.failureCancelled = true;
+                processor.droppedFailures += processor.failureBuffer.size();
+                processor.failureBuffer.clear();
+            }
+        }
+    }
+}
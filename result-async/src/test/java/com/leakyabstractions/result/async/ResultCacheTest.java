@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultCache}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultCacheTest {
+
+    @Test
+    void should_not_count_invalidated_entries() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .maximumSuccesses(2)
+                .build();
+        final Result<Integer, String> a = Results.success(1);
+        final Result<Integer, String> c = Results.success(3);
+        // When
+        cache.put("A", a);
+        cache.put("B", Results.success(2));
+        cache.invalidate("B");
+        cache.put("C", c);
+        // Then
+        assertSame(a, cache.getIfPresent("A"));
+        assertSame(c, cache.getIfPresent("C"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void should_not_count_replaced_entries() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .maximumSuccesses(2)
+                .build();
+        final Result<Integer, String> a = Results.success(1);
+        cache.put("A", a);
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.put("B", Results.success(i));
+        }
+        // Then
+        assertSame(a, cache.getIfPresent("A"));
+        assertEquals(99, cache.getIfPresent("B").orElse(null));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void should_give_recently_read_entries_a_second_chance() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .maximumSuccesses(2)
+                .build();
+        cache.put("A", Results.success(1));
+        cache.put("B", Results.success(2));
+        cache.getIfPresent("A");
+        // When
+        cache.put("C", Results.success(3));
+        // Then
+        assertEquals(1, cache.getIfPresent("A").orElse(null));
+        assertNull(cache.getIfPresent("B"));
+        assertEquals(3, cache.getIfPresent("C").orElse(null));
+    }
+
+    @Test
+    void should_cache_failures_separately() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .maximumSuccesses(1)
+                .maximumFailures(1)
+                .build();
+        final Result<Integer, String> success = Results.success(1);
+        final Result<Integer, String> failure = Results.failure("not found");
+        // When
+        cache.put("A", success);
+        cache.put("B", failure);
+        // Then
+        assertSame(success, cache.getIfPresent("A"));
+        assertSame(failure, cache.getIfPresent("B"));
+    }
+
+    @Test
+    void should_not_cache_failures_by_default() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder().build();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Result<Integer, String>> loader =
+                key -> Results.failure("fail " + calls.incrementAndGet());
+        // When
+        cache.get("A", loader);
+        final Result<Integer, String> result = cache.get("A", loader);
+        // Then
+        assertEquals("fail 2", result.getFailure().orElse(null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void should_expire_entries() {
+        // Given
+        final AtomicLong now = new AtomicLong();
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .successTtl(Duration.ofNanos(10))
+                .ticker(now::get)
+                .build();
+        cache.put("A", Results.success(1));
+        // When
+        now.set(9);
+        final Result<Integer, String> fresh = cache.getIfPresent("A");
+        now.set(10);
+        final Result<Integer, String> expired = cache.getIfPresent("A");
+        // Then
+        assertEquals(1, fresh.orElse(null));
+        assertNull(expired);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void should_keep_new_entries_after_invalidating_all() {
+        // Given
+        final ResultCache<String, Integer, String> cache = ResultCache.<String, Integer, String>builder()
+                .maximumSuccesses(2)
+                .build();
+        cache.put("A", Results.success(1));
+        cache.put("B", Results.success(2));
+        // When
+        cache.invalidateAll();
+        cache.put("C", Results.success(3));
+        cache.put("D", Results.success(4));
+        // Then
+        assertEquals(3, cache.getIfPresent("C").orElse(null));
+        assertEquals(4, cache.getIfPresent("D").orElse(null));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void should_stay_within_maximum_size_when_used_concurrently() throws Exception {
+        // Given
+        final int maximumSize = 10;
+        final ResultCache<Integer, Integer, String> cache = ResultCache.<Integer, Integer, String>builder()
+                .maximumSuccesses(maximumSize)
+                .build();
+        final Runnable task = () -> {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < 10_000; i++) {
+                final int key = random.nextInt(100);
+                if (random.nextInt(4) == 0) {
+                    cache.invalidate(key);
+                } else {
+                    cache.get(key, Results::success);
+                }
+            }
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(task));
+            }
+            // When
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            cache.invalidateAll();
+            for (int key = 0; key < maximumSize; key++) {
+                cache.put(key, Results.success(key));
+            }
+            // Then
+            for (int key = 0; key < maximumSize; key++) {
+                assertEquals(key, cache.getIfPresent(key).orElse(null));
+            }
+            assertTrue(cache.size() <= maximumSize);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.async.ResultCircuitBreaker.State;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultCircuitBreaker}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultCircuitBreakerTest {
+
+    private static final Result<Integer, String> SUCCESS = Results.success(1);
+    private static final Result<Integer, String> FAILURE = Results.failure("fail");
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void should_open_when_failure_rate_reaches_threshold() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.builder().build();
+        this.call(breaker, SUCCESS);
+        this.call(breaker, SUCCESS);
+        this.call(breaker, FAILURE);
+        final State belowMinimumCalls = breaker.getState();
+        // When
+        this.call(breaker, FAILURE);
+        // Then
+        assertEquals(State.CLOSED, belowMinimumCalls);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void should_reject_calls_while_open() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.open(this.builder().build());
+        final int callsBefore = this.calls.get();
+        // When
+        final Result<Integer, String> first = this.call(breaker, SUCCESS);
+        final Result<Integer, String> second = this.call(breaker, SUCCESS);
+        // Then
+        assertEquals("open", first.getFailure().orElse(null));
+        assertSame(first, second);
+        assertEquals(callsBefore, this.calls.get());
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void should_close_after_successful_trial_calls() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.open(this.builder().build());
+        this.now.addAndGet(Duration.ofSeconds(1).toNanos());
+        // When
+        this.call(breaker, SUCCESS);
+        final State afterFirstTrial = breaker.getState();
+        this.call(breaker, SUCCESS);
+        // Then
+        assertEquals(State.HALF_OPEN, afterFirstTrial);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void should_open_again_when_trial_call_fails() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.open(this.builder().build());
+        this.now.addAndGet(Duration.ofSeconds(1).toNanos());
+        // When
+        this.call(breaker, SUCCESS);
+        this.call(breaker, FAILURE);
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void should_stay_open_until_open_duration_elapses() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.open(this.builder().build());
+        final int callsBefore = this.calls.get();
+        this.now.addAndGet(Duration.ofSeconds(1).toNanos() - 1);
+        // When
+        this.call(breaker, SUCCESS);
+        // Then
+        assertEquals(callsBefore, this.calls.get());
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void should_record_exceptions_as_failures() {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.builder().windowSize(1).minimumCalls(1).build();
+        // When
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+            throw new IllegalStateException();
+        }));
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void should_not_record_excluded_failures() {
+        // Given
+        final ResultCircuitBreaker<String> breaker =
+                this.builder().recordIf(failure -> !failure.equals("fail")).build();
+        // When
+        for (int i = 0; i < 10; i++) {
+            this.call(breaker, FAILURE);
+        }
+        // Then
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void should_let_only_trial_calls_through_when_half_open() throws Exception {
+        // Given
+        final int threads = 16;
+        final int trialCalls = 3;
+        final ResultCircuitBreaker<String> breaker = this.open(this.builder().trialCalls(trialCalls).build());
+        this.now.addAndGet(Duration.ofSeconds(1).toNanos());
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger trials = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    final Result<Integer, String> result = breaker.call(() -> {
+                        trials.incrementAndGet();
+                        await(release);
+                        return SUCCESS;
+                    });
+                    if (result != SUCCESS) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+            // When
+            start.countDown();
+            while (rejected.get() < threads - trialCalls) {
+                Thread.sleep(1);
+            }
+            final int trialsWhileHalfOpen = trials.get();
+            final State whileHalfOpen = breaker.getState();
+            release.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            // Then
+            assertEquals(trialCalls, trialsWhileHalfOpen);
+            assertEquals(State.HALF_OPEN, whileHalfOpen);
+            assertEquals(threads - trialCalls, rejected.get());
+            assertEquals(State.CLOSED, breaker.getState());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_open_when_many_threads_fail_at_the_same_time() throws Exception {
+        // Given
+        final ResultCircuitBreaker<String> breaker = this.builder().windowSize(100).minimumCalls(10).build();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        this.call(breaker, FAILURE);
+                    }
+                }));
+            }
+            // When
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            // Then
+            assertEquals(State.OPEN, breaker.getState());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_reject_minimum_calls_greater_than_window_size() {
+        // Given
+        final ResultCircuitBreaker.Builder<String> builder = this.builder().windowSize(5).minimumCalls(6);
+        // Then
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private ResultCircuitBreaker.Builder<String> builder() {
+        return ResultCircuitBreaker.builder("open")
+                .failureRateThreshold(0.5)
+                .windowSize(10)
+                .minimumCalls(4)
+                .openDuration(Duration.ofSeconds(1))
+                .trialCalls(2)
+                .ticker(this.now::get);
+    }
+
+    private ResultCircuitBreaker<String> open(ResultCircuitBreaker<String> breaker) {
+        while (breaker.getState() != State.OPEN) {
+            this.call(breaker, FAILURE);
+        }
+        return breaker;
+    }
+
+    private Result<Integer, String> call(ResultCircuitBreaker<String> breaker, Result<Integer, String> result) {
+        return breaker.call(() -> {
+            this.calls.incrementAndGet();
+            return result;
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
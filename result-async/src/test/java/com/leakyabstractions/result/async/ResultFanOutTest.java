@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultFanOut}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultFanOutTest {
+
+    private final ExecutorService fallback = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        this.fallback.shutdownNow();
+        assertTrue(this.fallback.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    /** Returns a task that blocks until interrupted, counting the tasks that started and were interrupted. */
+    private static Supplier<Result<Integer, String>> blocking(AtomicInteger started, AtomicInteger interrupted) {
+        return () -> {
+            started.incrementAndGet();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+            return Results.success(-1);
+        };
+    }
+
+    /** Waits until every blocking task that started was interrupted; cancelled tasks that did not start never will. */
+    private static boolean awaitInterrupted(AtomicInteger started, AtomicInteger interrupted)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interrupted.get() != started.get()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    private static Supplier<Result<Integer, String>> delayed(long millis, Result<Integer, String> result) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    @Test
+    void should_keep_success_values_in_task_order() throws InterruptedException {
+        // Given
+        final List<Supplier<Result<Integer, String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // Later tasks finish first
+            tasks.add(delayed(50 - i * 10, Results.success(i)));
+        }
+        // When
+        final Result<List<Integer>, String> result = ResultFanOut.all(tasks, this.fallback);
+        // Then
+        assertEquals(Results.success(asList(0, 1, 2, 3, 4)), result);
+        assertFalse(this.fallback.isShutdown());
+    }
+
+    @Test
+    void should_cancel_remaining_tasks_on_first_failure() throws InterruptedException {
+        // Given
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger interrupted = new AtomicInteger();
+        final List<Supplier<Result<Integer, String>>> tasks = asList(
+                blocking(started, interrupted),
+                blocking(started, interrupted),
+                () -> Results.failure("KO"),
+                blocking(started, interrupted));
+        // When
+        final Result<List<Integer>, String> result = ResultFanOut.all(tasks, this.fallback);
+        // Then
+        assertEquals(Results.failure("KO"), result);
+        assertTrue(awaitInterrupted(started, interrupted));
+    }
+
+    @Test
+    void should_return_first_failure_to_complete() throws InterruptedException {
+        // Given
+        final List<Supplier<Result<Integer, String>>> tasks = asList(
+                delayed(1_000, Results.failure("slow")), () -> Results.failure("fast"), () -> Results.success(1));
+        // When
+        final Result<List<Integer>, String> result = ResultFanOut.all(tasks, this.fallback);
+        // Then
+        assertEquals(Results.failure("fast"), result);
+    }
+
+    @Test
+    void should_return_empty_list_without_running_anything() throws InterruptedException {
+        // Given
+        final ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        // When
+        final Result<List<Integer>, String> result = ResultFanOut.all(
+                Collections.<Supplier<Result<Integer, String>>>emptyList(), closed);
+        // Then
+        assertEquals(Results.success(Collections.emptyList()), result);
+    }
+
+    @Test
+    void should_rethrow_unchecked_exceptions_and_cancel_remaining_tasks() throws InterruptedException {
+        // Given
+        final IllegalStateException error = new IllegalStateException("Boom");
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger interrupted = new AtomicInteger();
+        final List<Supplier<Result<Integer, String>>> tasks = asList(blocking(started, interrupted), () -> {
+            throw error;
+        });
+        // When
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class, () -> ResultFanOut.all(tasks, this.fallback));
+        // Then
+        assertSame(error, thrown);
+        assertTrue(awaitInterrupted(started, interrupted));
+    }
+
+    @Test
+    void should_reject_null_results() {
+        // Given
+        final List<Supplier<Result<Integer, String>>> tasks = asList(() -> Results.success(1), () -> null);
+        // Then
+        assertThrows(NullPointerException.class, () -> ResultFanOut.all(tasks, this.fallback));
+        assertThrows(NullPointerException.class, () -> ResultFanOut.all(tasks, null));
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultFlowProcessor}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultFlowProcessorTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void should_publish_successes_and_failures_separately() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        final Recorder<String> failures = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(new Upstream());
+        // When
+        processor.onNext(Results.success(1));
+        processor.onNext(Results.failure("a"));
+        processor.onNext(Results.success(2));
+        processor.onComplete();
+        // Then
+        assertEquals(asList(1, 2), successes.items);
+        assertEquals(singletonList("a"), failures.items);
+        assertTrue(successes.completed);
+        assertTrue(failures.completed);
+    }
+
+    @Test
+    void should_request_upstream_only_as_fast_as_successes_are_demanded() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final Recorder<Integer> successes = new Recorder<>(2);
+        final Upstream upstream = new Upstream();
+        processor.subscribe(successes);
+        processor.onSubscribe(upstream);
+        // When
+        processor.onNext(Results.failure("a"));
+        processor.onNext(Results.success(1));
+        processor.onNext(Results.success(2));
+        final long requestedBefore = upstream.requested.get();
+        successes.subscription.request(1);
+        // Then
+        assertEquals(3, requestedBefore);
+        assertEquals(4, upstream.requested.get());
+        assertEquals(asList(1, 2), successes.items);
+    }
+
+    @Test
+    void should_drop_failures_when_buffer_is_full() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 2);
+        final Recorder<String> failures = new Recorder<>(0);
+        processor.failures().subscribe(failures);
+        processor.subscribe(new Recorder<>(Long.MAX_VALUE));
+        processor.onSubscribe(new Upstream());
+        // When
+        for (final String failure : asList("a", "b", "c", "d", "e")) {
+            processor.onNext(Results.failure(failure));
+        }
+        failures.subscription.request(10);
+        // Then
+        assertEquals(3, processor.droppedFailures());
+        assertEquals(asList("a", "b"), failures.items);
+    }
+
+    @Test
+    void should_not_slow_down_successes_with_slow_failure_subscriber() throws InterruptedException {
+        // Given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ResultFlowProcessor<Integer, Integer> processor = new ResultFlowProcessor<>(executor, 1000);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        final Recorder<Integer> failures = new Recorder<Integer>(Long.MAX_VALUE) {
+
+            @Override
+            public void onNext(Integer item) {
+                await(release);
+                super.onNext(item);
+            }
+        };
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(new Upstream());
+        try {
+            // When
+            for (int i = 0; i < 1000; i++) {
+                processor.onNext(i % 2 == 0 ? Results.success(i) : Results.failure(i));
+            }
+            processor.onComplete();
+            // Then
+            assertEquals(500, successes.items.size());
+            assertTrue(successes.completed);
+            assertTrue(failures.items.isEmpty());
+            release.countDown();
+            assertTrue(failures.terminated.await(10, TimeUnit.SECONDS));
+            assertEquals(500, failures.items.size());
+            assertEquals(0, processor.droppedFailures());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_not_deliver_failures_on_upstream_thread() throws InterruptedException {
+        // Given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(executor, 16);
+        final AtomicBoolean upstreamThread = new AtomicBoolean();
+        final Thread current = Thread.currentThread();
+        final Recorder<String> failures = new Recorder<String>(Long.MAX_VALUE) {
+
+            @Override
+            public void onNext(String item) {
+                upstreamThread.compareAndSet(false, Thread.currentThread() == current);
+                super.onNext(item);
+            }
+        };
+        processor.failures().subscribe(failures);
+        processor.subscribe(new Recorder<>(Long.MAX_VALUE));
+        processor.onSubscribe(new Upstream());
+        try {
+            // When
+            processor.onNext(Results.failure("a"));
+            processor.onComplete();
+            // Then
+            assertTrue(failures.terminated.await(10, TimeUnit.SECONDS));
+            assertEquals(singletonList("a"), failures.items);
+            assertFalse(upstreamThread.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_signal_invalid_request_without_overlapping_delivery() throws InterruptedException {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final Recorder<Integer> successes = new Recorder<Integer>(1) {
+
+            @Override
+            public void onNext(Integer item) {
+                active.incrementAndGet();
+                entered.countDown();
+                await(proceed);
+                super.onNext(item);
+                active.decrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                overlapped.set(active.get() != 0);
+                super.onError(throwable);
+            }
+        };
+        final Upstream upstream = new Upstream();
+        processor.subscribe(successes);
+        processor.onSubscribe(upstream);
+        final Thread producer = new Thread(() -> processor.onNext(Results.success(1)));
+        producer.start();
+        entered.await();
+        // When
+        successes.subscription.request(0);
+        final Throwable errorWhileDelivering = successes.error;
+        proceed.countDown();
+        producer.join();
+        // Then
+        assertNull(errorWhileDelivering);
+        assertInstanceOf(IllegalArgumentException.class, successes.error);
+        assertFalse(overlapped.get());
+        assertTrue(upstream.cancelled);
+        assertEquals(singletonList(1), successes.items);
+    }
+
+    @Test
+    void should_complete_failures_when_successes_are_cancelled() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        final Recorder<String> failures = new Recorder<>(Long.MAX_VALUE);
+        final Upstream upstream = new Upstream();
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(upstream);
+        processor.onNext(Results.failure("a"));
+        // When
+        successes.subscription.cancel();
+        // Then
+        assertTrue(upstream.cancelled);
+        assertEquals(singletonList("a"), failures.items);
+        assertTrue(failures.completed);
+        assertFalse(successes.completed);
+    }
+
+    @Test
+    void should_propagate_upstream_error_to_both_sides() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final Recorder<Integer> successes = new Recorder<>(Long.MAX_VALUE);
+        final Recorder<String> failures = new Recorder<>(Long.MAX_VALUE);
+        final IllegalStateException error = new IllegalStateException();
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(new Upstream());
+        // When
+        processor.onError(error);
+        // Then
+        assertEquals(error, successes.error);
+        assertEquals(error, failures.error);
+    }
+
+    @Test
+    void should_reject_second_subscriber() {
+        // Given
+        final ResultFlowProcessor<Integer, String> processor = new ResultFlowProcessor<>(DIRECT, 16);
+        final Recorder<Integer> second = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(new Recorder<>(Long.MAX_VALUE));
+        // When
+        processor.subscribe(second);
+        // Then
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+
+        final AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            this.requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+    private static class Recorder<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        private final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile boolean completed;
+        volatile Throwable error;
+
+        Recorder(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (this.initialRequest > 0) {
+                subscription.request(this.initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            this.terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            this.terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultRetry}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultRetryTest {
+
+    private final RecordingScheduler scheduler = new RecordingScheduler();
+
+    @AfterEach
+    void shutdown() {
+        this.scheduler.shutdown();
+    }
+
+    @Test
+    void should_retry_retryable_failures_with_exponential_backoff() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder()
+                .maxAttempts(5)
+                .initialDelay(Duration.ofMillis(100))
+                .multiplier(2)
+                .jitter(0)
+                .build();
+        final AtomicInteger calls = new AtomicInteger();
+        // When
+        final Result<Integer, String> result = await(retry.run(
+                () -> calls.incrementAndGet() < 4 ? Results.failure("busy") : Results.success(calls.get()),
+                "busy"::equals,
+                this.scheduler));
+        // Then
+        assertEquals(4, result.orElse(null));
+        assertEquals(asList(0L, 100L, 200L, 400L), this.scheduler.delays);
+    }
+
+    @Test
+    void should_cap_delays() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder()
+                .maxAttempts(4)
+                .initialDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(500))
+                .multiplier(10)
+                .jitter(0)
+                .build();
+        // When
+        await(retry.run(() -> Results.failure("busy"), failure -> true, this.scheduler));
+        // Then
+        assertEquals(asList(0L, 100L, 500L, 500L), this.scheduler.delays);
+    }
+
+    @Test
+    void should_return_last_failure_after_max_attempts() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder().maxAttempts(3).initialDelay(Duration.ZERO).build();
+        final AtomicInteger calls = new AtomicInteger();
+        // When
+        final Result<Integer, Integer> result =
+                await(retry.run(() -> Results.failure(calls.incrementAndGet()), failure -> true, this.scheduler));
+        // Then
+        assertEquals(3, result.getFailure().orElse(null));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void should_not_retry_failures_that_are_not_retryable() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder().initialDelay(Duration.ZERO).build();
+        final AtomicInteger calls = new AtomicInteger();
+        // When
+        final Result<Integer, String> result = await(retry.run(() -> {
+            calls.incrementAndGet();
+            return Results.failure("not found");
+        }, "busy"::equals, this.scheduler));
+        // Then
+        assertEquals("not found", result.getFailure().orElse(null));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_not_retry_exceptions() {
+        // Given
+        final ResultRetry retry = ResultRetry.builder().initialDelay(Duration.ZERO).build();
+        final AtomicInteger calls = new AtomicInteger();
+        final ResultStage<Integer, String> stage = retry.run(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        }, failure -> true, this.scheduler);
+        // When
+        final ExecutionException error = assertThrows(ExecutionException.class, () -> await(stage));
+        // Then
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_reduce_delays_by_jitter() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder()
+                .maxAttempts(20)
+                .initialDelay(Duration.ofMillis(100))
+                .multiplier(1)
+                .jitter(0.5)
+                .build();
+        // When
+        await(retry.run(() -> Results.failure("busy"), failure -> true, this.scheduler));
+        // Then
+        final List<Long> delays = this.scheduler.delays.subList(1, this.scheduler.delays.size());
+        assertEquals(19, delays.size());
+        for (final long delay : delays) {
+            assertTrue(delay >= 50 && delay <= 100, "Delay out of bounds: " + delay);
+        }
+    }
+
+    @Test
+    void should_run_first_attempt_on_scheduler() throws Exception {
+        // Given
+        final ResultRetry retry = ResultRetry.builder().build();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        // When
+        await(retry.run(() -> {
+            thread.set(Thread.currentThread());
+            return Results.success(1);
+        }, failure -> true, this.scheduler));
+        // Then
+        assertNotSame(Thread.currentThread(), thread.get());
+        assertEquals(asList(0L), this.scheduler.delays);
+    }
+
+    @Test
+    void should_reject_invalid_settings() {
+        // Given
+        final ResultRetry.Builder builder = ResultRetry.builder();
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> builder.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.initialDelay(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.multiplier(0.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.jitter(1.5));
+    }
+
+    private static <S, F> Result<S, F> await(ResultStage<S, F> stage) throws Exception {
+        return stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    /** Runs every task immediately, recording the delay it was scheduled with, in milliseconds. */
+    private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+
+        final List<Long> delays = new CopyOnWriteArrayList<>();
+
+        RecordingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            this.delays.add(unit.toMillis(delay));
+            return super.schedule(command, 0, unit);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultSingleFlight}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultSingleFlightTest {
+
+    @Test
+    void should_coalesce_concurrent_computations_for_same_key() throws InterruptedException {
+        // Given
+        final int threads = 8;
+        final ResultSingleFlight<String, Object, String> flight = new ResultSingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<AtomicReference<Result<Object, String>>> results = new ArrayList<>();
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final AtomicReference<Result<Object, String>> result = new AtomicReference<>();
+            results.add(result);
+            workers.add(new Thread(() -> result.set(flight.get("key", () -> {
+                calls.incrementAndGet();
+                entered.countDown();
+                await(release);
+                return Results.success(new Object());
+            }))));
+        }
+        // When
+        for (final Thread worker : workers) {
+            worker.start();
+        }
+        entered.await();
+        awaitAllWaiting(workers);
+        release.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        // Then
+        assertEquals(1, calls.get());
+        for (final AtomicReference<Result<Object, String>> result : results) {
+            assertSame(results.get(0).get(), result.get());
+        }
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_compute_again_once_completed() {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+        // When
+        flight.get("key", () -> Results.success(calls.incrementAndGet()));
+        final Result<Integer, String> result = flight.get("key", () -> Results.success(calls.incrementAndGet()));
+        // Then
+        assertEquals(2, result.orElse(null));
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_fail_fast_when_computation_depends_on_itself() {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        // When
+        final IllegalStateException error = assertThrows(
+                IllegalStateException.class,
+                () -> flight.get("key", () -> flight.get("key", () -> Results.success(1))));
+        // Then
+        assertEquals("Computation in flight depends on itself", error.getMessage());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_allow_nested_computations_for_other_keys() {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        // When
+        final Result<Integer, String> result = flight.get(
+                "outer",
+                () -> flight.get("inner", () -> Results.success(1)).mapSuccess(x -> x + 1));
+        // Then
+        assertEquals(2, result.orElse(null));
+    }
+
+    @Test
+    void should_share_asynchronous_computation_without_sharing_futures() throws Exception {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        final CompletableFuture<Result<Integer, String>> computation = new CompletableFuture<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final Result<Integer, String> success = Results.success(1);
+        final CompletableFuture<Result<Integer, String>> first = flight.getAsync("key", () -> {
+            calls.incrementAndGet();
+            return computation;
+        });
+        final CompletableFuture<Result<Integer, String>> second = flight.getAsync("key", () -> {
+            calls.incrementAndGet();
+            return computation;
+        });
+        // When
+        first.cancel(false);
+        final int inFlight = flight.inFlight();
+        computation.complete(success);
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals(1, inFlight);
+        assertTrue(first.isCancelled());
+        assertSame(success, second.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_propagate_failed_computation_to_waiting_callers() throws InterruptedException {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException error = new IllegalStateException();
+        final AtomicReference<Throwable> waiterError = new AtomicReference<>();
+        final Thread owner = new Thread(() -> {
+            try {
+                flight.get("key", () -> {
+                    entered.countDown();
+                    await(release);
+                    throw error;
+                });
+            } catch (IllegalStateException e) {
+                // Expected
+            }
+        });
+        final Thread waiter = new Thread(() -> {
+            try {
+                flight.get("key", () -> Results.success(1));
+            } catch (CompletionException e) {
+                waiterError.set(e.getCause());
+            }
+        });
+        owner.start();
+        entered.await();
+        waiter.start();
+        // When
+        awaitAllWaiting(List.of(waiter));
+        release.countDown();
+        owner.join();
+        waiter.join();
+        // Then
+        assertSame(error, waiterError.get());
+    }
+
+    @Test
+    void should_complete_exceptionally_when_asynchronous_computation_throws() {
+        // Given
+        final ResultSingleFlight<String, Integer, String> flight = new ResultSingleFlight<>();
+        final IllegalStateException error = new IllegalStateException();
+        // When
+        final CompletableFuture<Result<Integer, String>> future = flight.getAsync("key", () -> {
+            throw error;
+        });
+        // Then
+        final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertEquals(0, flight.inFlight());
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        for (final Thread thread : threads) {
+            while (thread.isAlive() && thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
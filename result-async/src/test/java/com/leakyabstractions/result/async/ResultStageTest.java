@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.async;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultStage}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultStageTest {
+
+    @Test
+    void should_apply_operations_when_result_is_available() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final List<String> performed = Collections.synchronizedList(new ArrayList<>());
+        final ResultStage<Integer, String> stage = ResultStage.of(future)
+                .ifSuccess(s -> performed.add("success " + s))
+                .filter(s -> !s.isEmpty(), s -> "Empty")
+                .mapSuccess(String::length)
+                .ifFailure(f -> performed.add("failure " + f));
+        // When
+        final boolean done = stage.isDone();
+        future.complete(Results.success("OK"));
+        // Then
+        assertFalse(done);
+        assertEquals(Results.success(2), stage.toCompletableFuture().join());
+        assertEquals(asList("success OK"), performed);
+    }
+
+    @Test
+    void should_pass_failures_as_values() {
+        // When
+        final ResultStage<Integer, String> stage = ResultStage.<String, Integer>failure(404)
+                .mapSuccess(String::length)
+                .mapFailure(code -> "Error " + code);
+        // Then
+        assertEquals(Results.failure("Error 404"), stage.toCompletableFuture().join());
+        assertFalse(stage.toCompletableFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    void should_recover_failures() {
+        // When
+        final ResultStage<String, String> stage = ResultStage.<String, String>failure("Missing")
+                .recover("Missing"::equals, f -> "Default");
+        // Then
+        assertEquals(Results.success("Default"), stage.toCompletableFuture().join());
+    }
+
+    @Test
+    void should_flat_map_success_into_next_stage() {
+        // Given
+        final CompletableFuture<Result<Integer, String>> next = new CompletableFuture<>();
+        // When
+        final ResultStage<Integer, String> stage = ResultStage.<String, String>success("OK")
+                .flatMapSuccess(s -> ResultStage.of(next));
+        final ResultStage<Integer, String> skipped = ResultStage.<String, String>failure("KO")
+                .flatMapSuccess(s -> {
+                    throw new AssertionError();
+                });
+        next.complete(Results.success(2));
+        // Then
+        assertEquals(Results.success(2), stage.toCompletableFuture().join());
+        assertEquals(Results.failure("KO"), skipped.toCompletableFuture().join());
+    }
+
+    @Test
+    void should_run_operations_on_bound_executor() throws InterruptedException {
+        // Given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicReference<Thread> supplier = new AtomicReference<>();
+        final AtomicReference<Thread> mapper = new AtomicReference<>();
+        try {
+            // When
+            final ResultStage<Integer, String> stage = ResultStage.<String, String>supplyAsync(() -> {
+                supplier.set(Thread.currentThread());
+                return Results.success("OK");
+            }, executor).mapSuccess(s -> {
+                mapper.set(Thread.currentThread());
+                return s.length();
+            });
+            // Then
+            assertEquals(Results.success(2), stage.toCompletableFuture().join());
+            assertEquals(supplier.get(), mapper.get());
+            assertTrue(supplier.get() != Thread.currentThread());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void should_complete_exceptionally_when_function_throws() {
+        // Given
+        final IllegalStateException error = new IllegalStateException("Boom");
+        // When
+        final ResultStage<Integer, String> stage = ResultStage.<String, String>success("OK").mapSuccess(s -> {
+            throw error;
+        });
+        // Then
+        final CompletionException thrown = assertThrows(
+                CompletionException.class, () -> stage.toCompletableFuture().join());
+        assertEquals(error, thrown.getCause());
+    }
+
+    @Test
+    void should_complete_exceptionally_when_result_is_null() {
+        // When
+        final ResultStage<String, String> stage = ResultStage.of(CompletableFuture.completedFuture(null));
+        // Then
+        final CompletionException thrown = assertThrows(
+                CompletionException.class, () -> stage.toCompletableFuture().join());
+        assertInstanceOf(NullPointerException.class, thrown.getCause());
+    }
+
+    @Test
+    void should_describe_outcome() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final ResultStage<String, String> pending = ResultStage.of(future);
+        // Then
+        assertEquals("ResultStage[pending]", pending.toString());
+        assertEquals("ResultStage[Success[OK]]", ResultStage.success("OK").toString());
+        assertEquals("ResultStage[Failure[KO]]", ResultStage.failure("KO").toString());
+    }
+
+    @Test
+    void should_describe_exceptional_outcome() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final ResultStage<String, String> stage = ResultStage.of(future);
+        // When
+        future.completeExceptionally(new IllegalStateException("Boom"));
+        // Then
+        assertEquals("ResultStage[failed: java.lang.IllegalStateException: Boom]", stage.toString());
+    }
+
+    @Test
+    void should_describe_outcome_while_completing_exceptionally() throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            // Given
+            final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+            final ResultStage<String, String> stage = ResultStage.of(future);
+            final Thread completer = new Thread(() -> future.completeExceptionally(new IllegalStateException()));
+            // When
+            completer.start();
+            String description;
+            do {
+                description = stage.toString();
+            } while (description.equals("ResultStage[pending]"));
+            completer.join();
+            // Then
+            assertEquals("ResultStage[failed: java.lang.IllegalStateException]", description);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes values that always take the same number of bytes.
+ * <p>
+ * Every value is encoded into exactly {@link #size()} bytes. Codecs write a value into a slot: a buffer that spans
+ * those bytes and nothing else, so a faulty codec cannot overwrite neighbouring values. Codecs read values at
+ * absolute offsets of a shared {@link ByteBuffer}; they must not modify its position or limit. This allows many
+ * threads to decode values from the same buffer at the same time.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * FixedSizeCodec&lt;Long&gt; prices = new FixedSizeCodec&lt;Long&gt;() {
+ *     public int size() { return Long.BYTES; }
+ *     public void encode(Long value, ByteBuffer slot) { slot.putLong(0, value); }
+ *     public Long decode(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+ * };</code>
+ * </pre>
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ * @see OffHeapResultBatch
+ */
+public interface FixedSizeCodec<T> {
+
+    /**
+     * Returns the number of bytes taken by every encoded value.
+     *
+     * @return the number of bytes taken by every encoded value
+     */
+    int size();
+
+    /**
+     * Writes the given value into the given slot.
+     * <p>
+     * The slot is a buffer of exactly {@link #size()} bytes, positioned at zero. Codecs must write exactly that number
+     * of bytes, and must not try to write beyond them: writes past the limit of the slot fail with an exception.
+     *
+     * @param value the value to encode
+     * @param slot the buffer to write to, whose capacity is {@link #size()} bytes
+     */
+    void encode(T value, ByteBuffer slot);
+
+    /**
+     * Reads a value from the given buffer.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the absolute offset of the first byte to read
+     * @return the decoded value
+     */
+    T decode(ByteBuffer buffer, int offset);
+}
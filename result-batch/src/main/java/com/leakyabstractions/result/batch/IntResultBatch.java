@@ -0,0 +1,461 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Holds many {@code int} outcomes in columnar form.
+ * <p>
+ * Success values are stored in a primitive {@code int} array, without boxing. Failures are expected to be rare, so
+ * they are stored sparsely: a sorted array of failed indexes plus an array of failure values. The slots of the
+ * {@code int} array that correspond to failures hold zero.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * IntResultBatch&lt;String&gt; latencies = IntResultBatch.&lt;String&gt;builder(size)
+ *         .addSuccess(12)
+ *         .addFailure("Timeout")
+ *         .build();
+ * OptionalInt worst = latencies.max();</code>
+ * </pre>
+ * <p>
+ * Bulk operations run as tight loops over contiguous ranges of successful outcomes, which the JIT compiler can
+ * auto-vectorize. On JDK 21 and later, if module {@code jdk.incubator.vector} is enabled with
+ * {@code --add-modules jdk.incubator.vector}, aggregations use the Vector API instead.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure values
+ * @see IntResult
+ */
+public final class IntResultBatch<F> {
+
+    private static final int[] NO_INDEXES = {};
+    private static final Object[] NO_FAILURES = {};
+
+    private final int[] values;
+    private final int[] failedIndexes;
+    private final Object[] failures;
+
+    private IntResultBatch(int[] values, int[] failedIndexes, Object[] failures) {
+        this.values = values;
+        this.failedIndexes = failedIndexes;
+        this.failures = failures;
+    }
+
+    /**
+     * Creates a new batch holding the given success values and no failures.
+     *
+     * @param <F> the type of the failure values
+     * @param successes the success values to hold; the array is copied
+     * @return a new batch holding {@code successes}
+     * @throws NullPointerException if {@code successes} is {@code null}
+     */
+    public static <F> IntResultBatch<F> ofSuccesses(int... successes) {
+        return new IntResultBatch<>(successes.clone(), NO_INDEXES, NO_FAILURES);
+    }
+
+    /**
+     * Creates a new builder of batches.
+     *
+     * @param <F> the type of the failure values
+     * @param expectedSize the expected number of outcomes; the builder grows as needed
+     * @return a new builder of batches
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <F> Builder<F> builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Returns the number of outcomes held by this batch.
+     *
+     * @return the number of outcomes held by this batch
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the number of successful outcomes held by this batch.
+     *
+     * @return the number of successful outcomes held by this batch
+     */
+    public int successCount() {
+        return this.values.length - this.failedIndexes.length;
+    }
+
+    /**
+     * Returns the number of failed outcomes held by this batch.
+     *
+     * @return the number of failed outcomes held by this batch
+     */
+    public int failureCount() {
+        return this.failedIndexes.length;
+    }
+
+    /**
+     * Checks if the outcome at the given index is successful.
+     *
+     * @param index the index of the outcome
+     * @return {@code true} if the outcome at {@code index} is successful; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public boolean isSuccess(int index) {
+        return Arrays.binarySearch(this.failedIndexes, this.checkIndex(index)) < 0;
+    }
+
+    /**
+     * Returns an {@code IntResult} holding the outcome at the given index.
+     *
+     * @param index the index of the outcome
+     * @return an {@code IntResult} holding the outcome at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public IntResult<F> get(int index) {
+        final int failure = Arrays.binarySearch(this.failedIndexes, this.checkIndex(index));
+        return failure < 0 ? Results.intSuccess(this.values[index]) : Results.intFailure((F) this.failures[failure]);
+    }
+
+    /**
+     * Returns all success values, replacing failures with the given value.
+     *
+     * @param other the value to use for failed outcomes
+     * @return a new array holding all success values, and {@code other} at the indexes of failed outcomes
+     */
+    public int[] orElse(int other) {
+        final int[] array = this.values.clone();
+        if (other != 0) {
+            for (final int index : this.failedIndexes) {
+                array[index] = other;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Transforms all success values, leaving failures untouched.
+     *
+     * @param mapper the mapping function that produces a new success value
+     * @return a new batch holding the transformed success values and the same failures
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public IntResultBatch<F> mapSuccess(IntUnaryOperator mapper) {
+        requireNonNull(mapper);
+        final int[] mapped = new int[this.values.length];
+        int from = 0;
+        for (final int failed : this.failedIndexes) {
+            for (int i = from; i < failed; i++) {
+                mapped[i] = mapper.applyAsInt(this.values[i]);
+            }
+            from = failed + 1;
+        }
+        for (int i = from; i < mapped.length; i++) {
+            mapped[i] = mapper.applyAsInt(this.values[i]);
+        }
+        return new IntResultBatch<>(mapped, this.failedIndexes, this.failures);
+    }
+
+    /**
+     * Returns the sum of all success values.
+     *
+     * @return the sum of all success values, or zero if there are none
+     */
+    public long sum() {
+        // Failed slots hold zero, so they can be included
+        return Kernels.sum(this.values, 0, this.values.length);
+    }
+
+    /**
+     * Returns the minimum success value.
+     *
+     * @return the minimum success value, or an empty optional if there are none
+     */
+    public OptionalInt min() {
+        if (this.failedIndexes.length == this.values.length) {
+            return OptionalInt.empty();
+        }
+        int min = Integer.MAX_VALUE;
+        int from = 0;
+        for (final int failed : this.failedIndexes) {
+            min = Math.min(min, Kernels.min(this.values, from, failed));
+            from = failed + 1;
+        }
+        return OptionalInt.of(Math.min(min, Kernels.min(this.values, from, this.values.length)));
+    }
+
+    /**
+     * Returns the maximum success value.
+     *
+     * @return the maximum success value, or an empty optional if there are none
+     */
+    public OptionalInt max() {
+        if (this.failedIndexes.length == this.values.length) {
+            return OptionalInt.empty();
+        }
+        int max = Integer.MIN_VALUE;
+        int from = 0;
+        for (final int failed : this.failedIndexes) {
+            max = Math.max(max, Kernels.max(this.values, from, failed));
+            from = failed + 1;
+        }
+        return OptionalInt.of(Math.max(max, Kernels.max(this.values, from, this.values.length)));
+    }
+
+    /**
+     * Returns a sequential stream of all success values, in index order.
+     * <p>
+     * The stream is {@link Spliterator#SIZED sized} and splits into halves of the same size, so it can be efficiently
+     * turned into a parallel stream.
+     *
+     * @return a sequential stream of all success values
+     */
+    public IntStream streamSuccess() {
+        final int failureCount = this.failedIndexes.length;
+        return StreamSupport.intStream(
+                new SuccessSpliterator(this.values, this.failedIndexes, 0, this.values.length, 0, failureCount), false);
+    }
+
+    /**
+     * Returns a sequential stream of all failure values, in index order.
+     *
+     * @return a sequential stream of all failure values
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<F> streamFailure() {
+        return IntStream.range(0, this.failures.length).mapToObj(i -> (F) this.failures[i]);
+    }
+
+    /**
+     * Returns a sequential stream of {@code IntResult} objects holding all outcomes, in index order.
+     *
+     * @return a sequential stream of {@code IntResult} objects holding all outcomes
+     * @see #get(int)
+     */
+    public Stream<IntResult<F>> stream() {
+        return IntStream.range(0, this.values.length).mapToObj(this::get);
+    }
+
+    @Override
+    public String toString() {
+        return "IntResultBatch[size=" + this.values.length + ", failures=" + this.failedIndexes.length + "]";
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= this.values.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.values.length);
+        }
+        return index;
+    }
+
+    /** Traverses the success values of a range of indexes, skipping failed indexes. */
+    private static final class SuccessSpliterator implements Spliterator.OfInt {
+
+        private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+        private final int[] values;
+        private final int[] failedIndexes;
+        private final int failureFence;
+        private final int fence;
+        private int failure;
+        private int index;
+
+        SuccessSpliterator(int[] values, int[] failedIndexes, int index, int fence, int failure, int failureFence) {
+            this.values = values;
+            this.failedIndexes = failedIndexes;
+            this.index = index;
+            this.fence = fence;
+            this.failure = failure;
+            this.failureFence = failureFence;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            while (this.index < this.fence) {
+                final int i = this.index++;
+                if (this.failure < this.failureFence && this.failedIndexes[this.failure] == i) {
+                    this.failure++;
+                } else {
+                    action.accept(this.values[i]);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int from = this.index;
+            for (int f = this.failure; f < this.failureFence; f++) {
+                final int failed = this.failedIndexes[f];
+                for (int i = from; i < failed; i++) {
+                    action.accept(this.values[i]);
+                }
+                from = failed + 1;
+            }
+            for (int i = from; i < this.fence; i++) {
+                action.accept(this.values[i]);
+            }
+            this.index = this.fence;
+            this.failure = this.failureFence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final long remaining = this.estimateSize();
+            if (remaining < 2) {
+                return null;
+            }
+            // Find the index that leaves exactly half of the remaining success values on each side
+            final int half = (int) (remaining >>> 1);
+            int middle = this.index + half;
+            int failure;
+            while (true) {
+                failure = this.failuresBefore(middle);
+                final int next = this.index + half + failure - this.failure;
+                if (next == middle) {
+                    break;
+                }
+                middle = next;
+            }
+            final Spliterator.OfInt prefix =
+                    new SuccessSpliterator(this.values, this.failedIndexes, this.index, middle, this.failure, failure);
+            this.index = middle;
+            this.failure = failure;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index - (this.failureFence - this.failure);
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        /** Returns the position of the first failed index that is greater than or equal to the given index. */
+        private int failuresBefore(int index) {
+            final int position = Arrays.binarySearch(this.failedIndexes, this.failure, this.failureFence, index);
+            return position < 0 ? -position - 1 : position;
+        }
+    }
+
+    /**
+     * Builds {@code int} batches by adding outcomes one by one.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <F> the type of the failure values
+     * @see IntResultBatch#builder(int)
+     */
+    public static final class Builder<F> {
+
+        private int[] values;
+        private int size;
+        private int[] failedIndexes = NO_INDEXES;
+        private Object[] failures = NO_FAILURES;
+        private int failureCount;
+
+        Builder(int capacity) {
+            this.values = new int[capacity];
+        }
+
+        /**
+         * Adds a success value.
+         *
+         * @param success the success value to add
+         * @return this builder
+         */
+        public Builder<F> addSuccess(int success) {
+            this.ensureCapacity();
+            this.values[this.size++] = success;
+            return this;
+        }
+
+        /**
+         * Adds a failure value.
+         *
+         * @param failure the failure value to add
+         * @return this builder
+         * @throws NullPointerException if {@code failure} is {@code null}
+         */
+        public Builder<F> addFailure(F failure) {
+            requireNonNull(failure, "failure");
+            this.ensureCapacity();
+            if (this.failureCount == this.failures.length) {
+                final int capacity = Math.max(this.failureCount << 1, 8);
+                this.failedIndexes = Arrays.copyOf(this.failedIndexes, capacity);
+                this.failures = Arrays.copyOf(this.failures, capacity);
+            }
+            this.failedIndexes[this.failureCount] = this.size;
+            this.failures[this.failureCount++] = failure;
+            this.values[this.size++] = 0;
+            return this;
+        }
+
+        /**
+         * Adds the outcome of the given result.
+         *
+         * @param result the result whose outcome will be added
+         * @return this builder
+         * @throws NullPointerException if {@code result} is {@code null}
+         */
+        public Builder<F> add(IntResult<? extends F> result) {
+            if (result.hasSuccess()) {
+                return this.addSuccess(result.orElse(0));
+            }
+            return this.addFailure(result.getFailure().orElse(null));
+        }
+
+        /**
+         * Creates a new batch holding all the outcomes added so far.
+         * <p>
+         * The builder can still be used after this method returns; further additions do not affect the batch.
+         *
+         * @return a new batch holding all the outcomes added so far
+         */
+        public IntResultBatch<F> build() {
+            return new IntResultBatch<>(
+                    Arrays.copyOf(this.values, this.size),
+                    Arrays.copyOf(this.failedIndexes, this.failureCount),
+                    Arrays.copyOf(this.failures, this.failureCount));
+        }
+
+        private void ensureCapacity() {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.max(this.size + (this.size >> 1), 16));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+/**
+ * Aggregates ranges of primitive arrays.
+ * <p>
+ * This class is replaced on JDK 21 and later (multi-release JAR) by one that may use the Vector API.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class Kernels {
+
+    private Kernels() {
+        // Not intended to be instantiated
+    }
+
+    static long sum(int[] array, int from, int to) {
+        return ScalarKernels.sum(array, from, to);
+    }
+
+    static int min(int[] array, int from, int to) {
+        return ScalarKernels.min(array, from, to);
+    }
+
+    static int max(int[] array, int from, int to) {
+        return ScalarKernels.max(array, from, to);
+    }
+
+    static long sum(long[] array, int from, int to) {
+        return ScalarKernels.sum(array, from, to);
+    }
+
+    static long min(long[] array, int from, int to) {
+        return ScalarKernels.min(array, from, to);
+    }
+
+    static long max(long[] array, int from, int to) {
+        return ScalarKernels.max(array, from, to);
+    }
+
+    static double sum(double[] array, int from, int to) {
+        return ScalarKernels.sum(array, from, to);
+    }
+
+    static double min(double[] array, int from, int to) {
+        return ScalarKernels.min(array, from, to);
+    }
+
+    static double max(double[] array, int from, int to) {
+        return ScalarKernels.max(array, from, to);
+    }
+}
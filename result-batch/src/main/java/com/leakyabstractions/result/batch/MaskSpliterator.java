@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Traverses the values of a {@link ResultBatch} whose bit in the mask is either set or clear.
+ * <p>
+ * The exact number of remaining values is always known, and splits divide them into two halves of the same size.
+ * Both counting and splitting work on whole 64-bit words of the mask.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ */
+final class MaskSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final long[] mask;
+    private final Object[] values;
+    private final boolean successes;
+    private final int size;
+    private int index;
+    private int remaining;
+
+    MaskSpliterator(long[] mask, Object[] values, int size, boolean successes, int index, int remaining) {
+        this.mask = mask;
+        this.values = values;
+        this.size = size;
+        this.successes = successes;
+        this.index = index;
+        this.remaining = remaining;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (this.remaining == 0) {
+            return false;
+        }
+        int w = this.index >>> 6;
+        long bits = this.selected(w) & -1L << this.index;
+        while (bits == 0) {
+            bits = this.selected(++w);
+        }
+        final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+        this.index = i + 1;
+        this.remaining--;
+        action.accept((T) this.values[i]);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> action) {
+        int count = this.remaining;
+        if (count == 0) {
+            return;
+        }
+        int w = this.index >>> 6;
+        long bits = this.selected(w) & -1L << this.index;
+        this.remaining = 0;
+        this.index = this.size;
+        for (;;) {
+            for (; bits != 0; bits &= bits - 1) {
+                action.accept((T) this.values[w << 6 | Long.numberOfTrailingZeros(bits)]);
+                if (--count == 0) {
+                    return;
+                }
+            }
+            bits = this.selected(++w);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (this.remaining < 2) {
+            return null;
+        }
+        final int half = this.remaining >>> 1;
+        final int middle = this.indexOf(half);
+        final Spliterator<T> prefix =
+                new MaskSpliterator<>(this.mask, this.values, this.size, this.successes, this.index, half);
+        this.index = middle;
+        this.remaining -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /** Returns the index of the n-th selected value, counting from the current index. */
+    private int indexOf(int n) {
+        int w = this.index >>> 6;
+        long bits = this.selected(w) & -1L << this.index;
+        for (int count; n >= (count = Long.bitCount(bits)); n -= count) {
+            bits = this.selected(++w);
+        }
+        for (; n > 0; n--) {
+            bits &= bits - 1;
+        }
+        return w << 6 | Long.numberOfTrailingZeros(bits);
+    }
+
+    /** Returns the bits of the given word that correspond to selected values. */
+    private long selected(int word) {
+        if (this.successes) {
+            return this.mask[word];
+        }
+        final int tail = this.size & 63;
+        final long bits = ~this.mask[word];
+        return word == this.mask.length - 1 && tail != 0 ? bits & (1L << tail) - 1 : bits;
+    }
+}
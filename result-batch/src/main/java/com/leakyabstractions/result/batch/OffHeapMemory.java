@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Holds a block of memory outside the Java heap.
+ * <p>
+ * This class is backed by a direct {@link ByteBuffer}, which is released by the garbage collector some time after it
+ * becomes unreachable. It is replaced on JDK 22 and later (multi-release JAR) by one that releases memory as soon as
+ * it is closed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class OffHeapMemory implements AutoCloseable {
+
+    private volatile ByteBuffer buffer;
+
+    OffHeapMemory(int bytes) {
+        this.buffer = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    ByteBuffer buffer() {
+        final ByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            throw new IllegalStateException("Already closed");
+        }
+        return buffer;
+    }
+
+    ByteBuffer slice(int offset, int length) {
+        final ByteBuffer slice = this.buffer().duplicate();
+        slice.limit(offset + length);
+        slice.position(offset);
+        return slice.slice().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+    }
+}
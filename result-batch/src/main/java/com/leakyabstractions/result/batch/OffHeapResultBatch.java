@@ -0,0 +1,350 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Holds many successful and failed outcomes of fixed size outside the Java heap.
+ * <p>
+ * Each outcome takes a slot of memory: one tag byte telling whether the outcome is successful, followed by its success
+ * or failure value, encoded by a {@link FixedSizeCodec}. The garbage collector only sees a single object, no matter how
+ * many outcomes the batch holds.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * try (OffHeapResultBatch&lt;Quote, Short&gt; quotes = OffHeapResultBatch.allocate(1_000_000, QUOTES, CODES)) {
+ *     quotes.addSuccess(quote);
+ *     quotes.addFailure(STALE);
+ *     OffHeapResultBatch.Cursor&lt;Quote, Short&gt; cursor = quotes.cursor();
+ *     for (int i = 0; i &lt; quotes.size(); i++) {
+ *         if (cursor.moveTo(i).isSuccess()) {
+ *             process(cursor.buffer(), cursor.valueOffset());
+ *         }
+ *     }
+ * }</code>
+ * </pre>
+ * <p>
+ * Batches have a fixed capacity. Outcomes can be added until the batch is full; once added, they cannot be modified.
+ * Adding outcomes is not thread-safe, but any number of threads can read the outcomes that were added before.
+ * <p>
+ * On JDK 8 to 21, memory is held by a direct {@link ByteBuffer} and released by the garbage collector some time after
+ * the batch becomes unreachable. On JDK 22 and later (multi-release JAR), memory is held by a
+ * {@code java.lang.foreign.MemorySegment} and released as soon as the batch is {@link #close() closed}. In both cases,
+ * a closed batch can no longer be accessed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success values
+ * @param <F> the type of the failure values
+ * @see FixedSizeCodec
+ */
+public final class OffHeapResultBatch<S, F> implements AutoCloseable {
+
+    private static final byte SUCCESS = 1;
+    private static final byte FAILURE = 2;
+
+    private final OffHeapMemory memory;
+    private final FixedSizeCodec<S> successCodec;
+    private final FixedSizeCodec<F> failureCodec;
+    private final int slotSize;
+    private final int capacity;
+    private volatile int size;
+
+    private OffHeapResultBatch(int capacity, FixedSizeCodec<S> successCodec, FixedSizeCodec<F> failureCodec) {
+        this.successCodec = successCodec;
+        this.failureCodec = failureCodec;
+        this.slotSize = 1 + Math.max(successCodec.size(), failureCodec.size());
+        this.capacity = capacity;
+        this.memory = new OffHeapMemory(Math.multiplyExact(capacity, this.slotSize));
+    }
+
+    /**
+     * Allocates a new, empty batch.
+     *
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @param capacity the maximum number of outcomes the batch can hold
+     * @param successCodec the codec of the success values
+     * @param failureCodec the codec of the failure values
+     * @return a new, empty batch
+     * @throws NullPointerException if {@code successCodec} or {@code failureCodec} is {@code null}
+     * @throws IllegalArgumentException if {@code capacity} or the size of any codec is negative
+     * @throws ArithmeticException if the batch would take more than {@link Integer#MAX_VALUE} bytes
+     */
+    public static <S, F> OffHeapResultBatch<S, F> allocate(
+            int capacity,
+            FixedSizeCodec<S> successCodec,
+            FixedSizeCodec<F> failureCodec) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+        if (successCodec.size() < 0 || failureCodec.size() < 0) {
+            throw new IllegalArgumentException("Negative codec size");
+        }
+        return new OffHeapResultBatch<>(capacity, successCodec, failureCodec);
+    }
+
+    /**
+     * Returns the maximum number of outcomes this batch can hold.
+     *
+     * @return the maximum number of outcomes this batch can hold
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of outcomes held by this batch.
+     *
+     * @return the number of outcomes held by this batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a success value.
+     *
+     * @param success the success value to add
+     * @return this batch
+     * @throws NullPointerException if {@code success} is {@code null}
+     * @throws IllegalStateException if this batch is full or closed
+     * @throws IndexOutOfBoundsException if the codec writes past its size at an absolute index
+     * @throws java.nio.BufferOverflowException if the codec writes past its size at the position of the slot
+     */
+    public OffHeapResultBatch<S, F> addSuccess(S success) {
+        requireNonNull(success, "success");
+        final int offset = this.nextSlot();
+        this.successCodec.encode(success, this.memory.slice(offset + 1, this.successCodec.size()));
+        this.memory.buffer().put(offset, SUCCESS);
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Adds a failure value.
+     *
+     * @param failure the failure value to add
+     * @return this batch
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @throws IllegalStateException if this batch is full or closed
+     * @throws IndexOutOfBoundsException if the codec writes past its size at an absolute index
+     * @throws java.nio.BufferOverflowException if the codec writes past its size at the position of the slot
+     */
+    public OffHeapResultBatch<S, F> addFailure(F failure) {
+        requireNonNull(failure, "failure");
+        final int offset = this.nextSlot();
+        this.failureCodec.encode(failure, this.memory.slice(offset + 1, this.failureCodec.size()));
+        this.memory.buffer().put(offset, FAILURE);
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Adds the outcome of the given result.
+     *
+     * @param result the result whose outcome will be added
+     * @return this batch
+     * @throws NullPointerException if {@code result} is {@code null}
+     * @throws IllegalStateException if this batch is full or closed
+     */
+    public OffHeapResultBatch<S, F> add(Result<? extends S, ? extends F> result) {
+        if (result.hasSuccess()) {
+            return this.addSuccess(result.orElse(null));
+        }
+        return this.addFailure(result.getFailure().orElse(null));
+    }
+
+    /**
+     * Checks if the outcome at the given index is successful.
+     *
+     * @param index the index of the outcome
+     * @return {@code true} if the outcome at {@code index} is successful; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException if this batch is closed
+     */
+    public boolean isSuccess(int index) {
+        return this.memory.buffer().get(this.offsetOf(index)) == SUCCESS;
+    }
+
+    /**
+     * Decodes the outcome at the given index into a new {@code Result}.
+     *
+     * @param index the index of the outcome
+     * @return a new {@code Result} holding the decoded outcome at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     * @throws IllegalStateException if this batch is closed
+     * @see #cursor()
+     */
+    public Result<S, F> get(int index) {
+        final ByteBuffer buffer = this.memory.buffer();
+        final int offset = this.offsetOf(index);
+        return buffer.get(offset) == SUCCESS
+                ? Results.success(this.successCodec.decode(buffer, offset + 1))
+                : Results.failure(this.failureCodec.decode(buffer, offset + 1));
+    }
+
+    /**
+     * Creates a new cursor over the outcomes of this batch.
+     * <p>
+     * A single cursor can visit any number of outcomes without creating any objects.
+     *
+     * @return a new cursor over the outcomes of this batch, positioned at index zero
+     */
+    public Cursor<S, F> cursor() {
+        return new Cursor<>(this);
+    }
+
+    /**
+     * Releases the memory held by this batch, if the runtime supports it.
+     * <p>
+     * Once closed, any attempt to access this batch fails with {@link IllegalStateException}. Closing a closed batch
+     * has no effect.
+     */
+    @Override
+    public void close() {
+        this.memory.close();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapResultBatch[size=" + this.size + ", capacity=" + this.capacity + "]";
+    }
+
+    private int nextSlot() {
+        if (this.size == this.capacity) {
+            throw new IllegalStateException("Batch is full: " + this.capacity);
+        }
+        return this.size * this.slotSize;
+    }
+
+    private int offsetOf(int index) {
+        final int size = this.size;
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index * this.slotSize;
+    }
+
+    /**
+     * Visits the outcomes of an off-heap batch, one at a time.
+     * <p>
+     * A cursor is a flyweight: it only remembers an index, and moving it to a different outcome creates no objects.
+     * Values can be decoded with {@link #success()} and {@link #failure()}; or read in place, by passing
+     * {@link #buffer()} and {@link #valueOffset()} to custom code. Cursors are not thread-safe.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @see OffHeapResultBatch#cursor()
+     */
+    public static final class Cursor<S, F> {
+
+        private final OffHeapResultBatch<S, F> batch;
+        private int offset;
+        private boolean success;
+
+        Cursor(OffHeapResultBatch<S, F> batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Moves this cursor to the outcome at the given index.
+         *
+         * @param index the index of the outcome
+         * @return this cursor
+         * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+         * @throws IllegalStateException if the batch is closed
+         */
+        public Cursor<S, F> moveTo(int index) {
+            this.offset = this.batch.offsetOf(index);
+            this.success = this.batch.memory.buffer().get(this.offset) == SUCCESS;
+            return this;
+        }
+
+        /**
+         * Checks if the current outcome is successful.
+         *
+         * @return {@code true} if the current outcome is successful; {@code false} otherwise
+         */
+        public boolean isSuccess() {
+            return this.success;
+        }
+
+        /**
+         * Decodes the success value of the current outcome.
+         *
+         * @return the decoded success value
+         * @throws IllegalStateException if the current outcome is not successful; or if the batch is closed
+         */
+        public S success() {
+            if (!this.success) {
+                throw new IllegalStateException("Not a success");
+            }
+            return this.batch.successCodec.decode(this.buffer(), this.valueOffset());
+        }
+
+        /**
+         * Decodes the failure value of the current outcome.
+         *
+         * @return the decoded failure value
+         * @throws IllegalStateException if the current outcome is not a failure; or if the batch is closed
+         */
+        public F failure() {
+            if (this.success) {
+                throw new IllegalStateException("Not a failure");
+            }
+            return this.batch.failureCodec.decode(this.buffer(), this.valueOffset());
+        }
+
+        /**
+         * Decodes the current outcome into a new {@code Result}.
+         *
+         * @return a new {@code Result} holding the decoded current outcome
+         * @throws IllegalStateException if the batch is closed
+         */
+        public Result<S, F> toResult() {
+            return this.success ? Results.success(this.success()) : Results.failure(this.failure());
+        }
+
+        /**
+         * Returns the buffer that holds the encoded values of the batch.
+         * <p>
+         * The buffer must only be read at absolute offsets; its contents, position and limit must not be modified.
+         *
+         * @return the buffer that holds the encoded values of the batch
+         * @throws IllegalStateException if the batch is closed
+         */
+        public ByteBuffer buffer() {
+            return this.batch.memory.buffer();
+        }
+
+        /**
+         * Returns the absolute offset of the encoded value of the current outcome in {@link #buffer()}.
+         *
+         * @return the absolute offset of the encoded value of the current outcome
+         */
+        public int valueOffset() {
+            return this.offset + 1;
+        }
+    }
+}
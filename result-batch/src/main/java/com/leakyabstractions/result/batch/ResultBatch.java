@@ -0,0 +1,436 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Holds many successful and failed outcomes in columnar form.
+ * <p>
+ * A list of {@link Result} objects needs one object per element, plus a reference to it. A batch stores the same
+ * information as a bit mask that tells which elements are successful, plus a single array holding all success and
+ * failure values. This takes a fraction of the memory and lets bulk operations run over contiguous arrays.
+ * <p>
+ * Success and failure values share one array, indexed like the mask, instead of being split into two. Two arrays
+ * indexed like the mask would waste a {@code null} slot per outcome, doubling the references held by the batch; two
+ * packed arrays would need a rank lookup to locate the value of an index, so {@link #get(int)} would no longer take
+ * constant time. Bulk operations still visit only the values they apply to, since the mask tells them apart.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultBatch&lt;Integer, String&gt; batch = ResultBatch.&lt;Integer, String&gt;builder(records.size())
+ *         .addSuccess(1)
+ *         .addFailure("Invalid record")
+ *         .build();
+ * long total = batch.mapSuccess(Integer::longValue).streamSuccess().count();</code>
+ * </pre>
+ * <p>
+ * Batches are immutable. Bulk operations return a new batch, sharing the arrays of this one when possible, or this
+ * same batch when nothing changes.
+ * <p>
+ * Streams of batches are sized and split evenly. Instead of flat-mapping a parallel stream of results through many
+ * one-element streams, create a batch with {@link #of(Collection)} and stream its successes or failures directly.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success values
+ * @param <F> the type of the failure values
+ * @see Result
+ */
+public final class ResultBatch<S, F> {
+
+    private static final long[] NO_WORDS = {};
+    private static final Object[] NO_VALUES = {};
+    private static final ResultBatch<?, ?> EMPTY = new ResultBatch<>(NO_WORDS, NO_VALUES, 0);
+
+    private final long[] mask;
+    private final Object[] values;
+    private final int size;
+
+    private ResultBatch(long[] mask, Object[] values, int size) {
+        this.mask = mask;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty batch.
+     *
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @return an empty batch
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F> ResultBatch<S, F> empty() {
+        return (ResultBatch<S, F>) EMPTY;
+    }
+
+    /**
+     * Creates a new batch holding the outcomes of the given results, in iteration order.
+     *
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @param results the results to hold
+     * @return a new batch holding the outcomes of {@code results}
+     * @throws NullPointerException if {@code results} or any of its elements is {@code null}
+     */
+    public static <S, F> ResultBatch<S, F> of(Collection<? extends Result<? extends S, ? extends F>> results) {
+        final Builder<S, F> builder = builder(results.size());
+        for (final Result<? extends S, ? extends F> result : results) {
+            builder.add(result);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a new builder of batches.
+     *
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @param expectedSize the expected number of outcomes; the builder grows as needed
+     * @return a new builder of batches
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <S, F> Builder<S, F> builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Returns the number of outcomes held by this batch.
+     *
+     * @return the number of outcomes held by this batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of successful outcomes held by this batch.
+     *
+     * @return the number of successful outcomes held by this batch
+     */
+    public int successCount() {
+        int count = 0;
+        for (final long word : this.mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of failed outcomes held by this batch.
+     *
+     * @return the number of failed outcomes held by this batch
+     */
+    public int failureCount() {
+        return this.size - this.successCount();
+    }
+
+    /**
+     * Checks if the outcome at the given index is successful.
+     *
+     * @param index the index of the outcome
+     * @return {@code true} if the outcome at {@code index} is successful; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public boolean isSuccess(int index) {
+        return isSet(this.mask, this.checkIndex(index));
+    }
+
+    /**
+     * Returns a {@code Result} holding the outcome at the given index.
+     *
+     * @param index the index of the outcome
+     * @return a new {@code Result} holding the outcome at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Result<S, F> get(int index) {
+        final Object value = this.values[this.checkIndex(index)];
+        return isSet(this.mask, index) ? Results.success((S) value) : Results.failure((F) value);
+    }
+
+    /**
+     * Transforms all success values, leaving failure values untouched.
+     *
+     * @param <S2> the type of the new success values
+     * @param mapper the mapping function that produces a new success value
+     * @return a new batch holding the transformed success values and the same failure values
+     * @throws NullPointerException if {@code mapper} is {@code null}; or if {@code mapper} returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <S2> ResultBatch<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        requireNonNull(mapper);
+        final Object[] mapped = this.values.clone();
+        for (int w = 0; w < this.mask.length; w++) {
+            for (long bits = this.mask[w]; bits != 0; bits &= bits - 1) {
+                final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                mapped[i] = requireNonNull(mapper.apply((S) mapped[i]));
+            }
+        }
+        return new ResultBatch<>(this.mask, mapped, this.size);
+    }
+
+    /**
+     * Transforms all failure values, leaving success values untouched.
+     *
+     * @param <F2> the type of the new failure values
+     * @param mapper the mapping function that produces a new failure value
+     * @return a new batch holding the same success values and the transformed failure values
+     * @throws NullPointerException if {@code mapper} is {@code null}; or if {@code mapper} returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <F2> ResultBatch<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        requireNonNull(mapper);
+        final Object[] mapped = this.values.clone();
+        for (int w = 0; w < this.mask.length; w++) {
+            for (long bits = this.failureBits(w); bits != 0; bits &= bits - 1) {
+                final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                mapped[i] = requireNonNull(mapper.apply((F) mapped[i]));
+            }
+        }
+        return new ResultBatch<>(this.mask, mapped, this.size);
+    }
+
+    /**
+     * Transforms the success values that are not acceptable into failure values.
+     *
+     * @param isAcceptable the predicate to apply to the success values
+     * @param mapper the mapping function that produces a failure value from a non-acceptable success value
+     * @return a new batch where non-acceptable success values were replaced by failure values; or this same batch
+     *     if all success values are acceptable
+     * @throws NullPointerException if {@code isAcceptable} or {@code mapper} is {@code null}; or if {@code mapper}
+     *     returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        requireNonNull(isAcceptable);
+        requireNonNull(mapper);
+        long[] filteredMask = null;
+        Object[] filtered = null;
+        for (int w = 0; w < this.mask.length; w++) {
+            for (long bits = this.mask[w]; bits != 0; bits &= bits - 1) {
+                final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                final S value = (S) this.values[i];
+                if (!isAcceptable.test(value)) {
+                    if (filtered == null) {
+                        filteredMask = this.mask.clone();
+                        filtered = this.values.clone();
+                    }
+                    filteredMask[w] &= ~(1L << i);
+                    filtered[i] = requireNonNull(mapper.apply(value));
+                }
+            }
+        }
+        return filtered == null ? this : new ResultBatch<>(filteredMask, filtered, this.size);
+    }
+
+    /**
+     * Transforms the failure values that are recoverable into success values.
+     *
+     * @param isRecoverable the predicate to apply to the failure values
+     * @param mapper the mapping function that produces a success value from a recoverable failure value
+     * @return a new batch where recoverable failure values were replaced by success values; or this same batch if no
+     *     failure values are recoverable
+     * @throws NullPointerException if {@code isRecoverable} or {@code mapper} is {@code null}; or if {@code mapper}
+     *     returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        requireNonNull(isRecoverable);
+        requireNonNull(mapper);
+        long[] recoveredMask = null;
+        Object[] recovered = null;
+        for (int w = 0; w < this.mask.length; w++) {
+            for (long bits = this.failureBits(w); bits != 0; bits &= bits - 1) {
+                final int i = w << 6 | Long.numberOfTrailingZeros(bits);
+                final F value = (F) this.values[i];
+                if (isRecoverable.test(value)) {
+                    if (recovered == null) {
+                        recoveredMask = this.mask.clone();
+                        recovered = this.values.clone();
+                    }
+                    recoveredMask[w] |= 1L << i;
+                    recovered[i] = requireNonNull(mapper.apply(value));
+                }
+            }
+        }
+        return recovered == null ? this : new ResultBatch<>(recoveredMask, recovered, this.size);
+    }
+
+    /**
+     * Returns a sequential stream of all success values, in index order.
+     * <p>
+     * The stream is {@link java.util.Spliterator#SIZED sized} and splits into halves of the same size, so it can be
+     * efficiently turned into a parallel stream.
+     *
+     * @return a sequential stream of all success values
+     */
+    public Stream<S> streamSuccess() {
+        return StreamSupport.stream(
+                new MaskSpliterator<>(this.mask, this.values, this.size, true, 0, this.successCount()), false);
+    }
+
+    /**
+     * Returns a sequential stream of all failure values, in index order.
+     * <p>
+     * The stream is {@link java.util.Spliterator#SIZED sized} and splits into halves of the same size, so it can be
+     * efficiently turned into a parallel stream.
+     *
+     * @return a sequential stream of all failure values
+     */
+    public Stream<F> streamFailure() {
+        return StreamSupport.stream(
+                new MaskSpliterator<>(this.mask, this.values, this.size, false, 0, this.failureCount()), false);
+    }
+
+    /**
+     * Returns a sequential stream of {@code Result} objects holding all outcomes, in index order.
+     * <p>
+     * The stream is {@link java.util.Spliterator#SIZED sized} and splits into halves of the same size, so it can be
+     * efficiently turned into a parallel stream.
+     *
+     * @return a sequential stream of {@code Result} objects holding all outcomes
+     * @see #get(int)
+     */
+    public Stream<Result<S, F>> stream() {
+        return IntStream.range(0, this.size).mapToObj(this::get);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultBatch[size=" + this.size + ", successes=" + this.successCount() + "]";
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size);
+        }
+        return index;
+    }
+
+    private long failureBits(int word) {
+        final long bits = ~this.mask[word];
+        final int tail = this.size & 63;
+        return word == this.mask.length - 1 && tail != 0 ? bits & (1L << tail) - 1 : bits;
+    }
+
+    private static boolean isSet(long[] mask, int index) {
+        return (mask[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Builds batches by adding outcomes one by one.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <S> the type of the success values
+     * @param <F> the type of the failure values
+     * @see ResultBatch#builder(int)
+     */
+    public static final class Builder<S, F> {
+
+        private long[] mask;
+        private Object[] values;
+        private int size;
+
+        Builder(int capacity) {
+            this.mask = new long[words(capacity)];
+            this.values = new Object[capacity];
+        }
+
+        /**
+         * Adds a success value.
+         *
+         * @param success the success value to add
+         * @return this builder
+         * @throws NullPointerException if {@code success} is {@code null}
+         */
+        public Builder<S, F> addSuccess(S success) {
+            final int index = this.append(requireNonNull(success, "success"));
+            this.mask[index >>> 6] |= 1L << index;
+            return this;
+        }
+
+        /**
+         * Adds a failure value.
+         *
+         * @param failure the failure value to add
+         * @return this builder
+         * @throws NullPointerException if {@code failure} is {@code null}
+         */
+        public Builder<S, F> addFailure(F failure) {
+            this.append(requireNonNull(failure, "failure"));
+            return this;
+        }
+
+        /**
+         * Adds the outcome of the given result.
+         *
+         * @param result the result whose outcome will be added
+         * @return this builder
+         * @throws NullPointerException if {@code result} is {@code null}
+         */
+        public Builder<S, F> add(Result<? extends S, ? extends F> result) {
+            if (result.hasSuccess()) {
+                return this.addSuccess(result.orElse(null));
+            }
+            return this.addFailure(result.getFailure().orElse(null));
+        }
+
+        /**
+         * Creates a new batch holding all the outcomes added so far.
+         * <p>
+         * The builder can still be used after this method returns; further additions do not affect the batch.
+         *
+         * @return a new batch holding all the outcomes added so far
+         */
+        public ResultBatch<S, F> build() {
+            if (this.size == 0) {
+                return empty();
+            }
+            return new ResultBatch<>(
+                    Arrays.copyOf(this.mask, words(this.size)), Arrays.copyOf(this.values, this.size), this.size);
+        }
+
+        private int append(Object value) {
+            if (this.size == this.values.length) {
+                final int capacity = Math.max(this.size + (this.size >> 1), 16);
+                this.values = Arrays.copyOf(this.values, capacity);
+                this.mask = Arrays.copyOf(this.mask, words(capacity));
+            }
+            this.values[this.size] = value;
+            return this.size++;
+        }
+
+        private static int words(int size) {
+            return (size + 63) >>> 6;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Columnar batches for the Result API
+ * <p>
+ * <img src="https://dev.leakyabstractions.com/result-api/result.svg" alt="Result Library">
+ * <h2>Result Library Batches</h2>
+ * <p>
+ * This package provides {@link com.leakyabstractions.result.batch.ResultBatch}, a compact container of many
+ * successful and failed outcomes that supports bulk operations. Primitive specializations
+ * {@link com.leakyabstractions.result.batch.IntResultBatch}, {@link com.leakyabstractions.result.batch.LongResultBatch}
+ * and {@link com.leakyabstractions.result.batch.DoubleResultBatch} store success values in primitive arrays.
+ * {@link com.leakyabstractions.result.batch.OffHeapResultBatch} stores fixed-size outcomes outside the Java heap.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultBatch&lt;Order, String&gt; valid = ResultBatch.of(results).filter(Order::isPaid, o -&gt; "Unpaid");</code>
+ * </pre>
+ * <p>
+ * Batches store outcomes as a bit mask plus an array of values, instead of one {@code Result} object per element.
+ * This saves memory and keeps bulk passes cache-friendly when handling millions of outcomes.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.api Introduction
+ * @see com.leakyabstractions.result.batch.ResultBatch
+ */
+
+package com.leakyabstractions.result.batch;
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Aggregates ranges of primitive arrays with the Vector API.
+ * <p>
+ * This class must only be loaded if module {@code jdk.incubator.vector} is enabled.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final int INT_PARTS = INTS.length() / LONGS.length();
+
+    private VectorKernels() {
+        // Not intended to be instantiated
+    }
+
+    static long sum(int[] array, int from, int to) {
+        // Widen each int vector into long vectors, so that the sum cannot overflow
+        LongVector sum = LongVector.zero(LONGS);
+        int i = from;
+        for (final int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            final IntVector vector = IntVector.fromArray(INTS, array, i);
+            for (int part = 0; part < INT_PARTS; part++) {
+                sum = sum.add(vector.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        long total = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    static int min(int[] array, int from, int to) {
+        IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = from;
+        for (final int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, array, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    static int max(int[] array, int from, int to) {
+        IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = from;
+        for (final int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, array, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    static long sum(long[] array, int from, int to) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = from;
+        for (final int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    static long min(long[] array, int from, int to) {
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = from;
+        for (final int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    static long max(long[] array, int from, int to) {
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = from;
+        for (final int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    static double sum(double[] array, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (final int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    static double min(double[] array, int from, int to) {
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = from;
+        for (final int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    static double max(double[] array, int from, int to) {
+        DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = from;
+        for (final int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Holds a block of memory outside the Java heap.
+ * <p>
+ * This class is backed by a {@link MemorySegment} allocated in a shared {@link Arena}, so memory is released as soon
+ * as it is closed. Any further access to the memory, from any thread, fails with {@link IllegalStateException}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class OffHeapMemory implements AutoCloseable {
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final ByteBuffer buffer;
+
+    OffHeapMemory(int bytes) {
+        this.arena = Arena.ofShared();
+        this.segment = this.arena.allocate(bytes, Long.BYTES);
+        this.buffer = this.segment.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    ByteBuffer buffer() {
+        this.checkAlive();
+        return this.buffer;
+    }
+
+    ByteBuffer slice(int offset, int length) {
+        this.checkAlive();
+        return this.segment.asSlice(offset, length).asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void close() {
+        if (this.arena.scope().isAlive()) {
+            this.arena.close();
+        }
+    }
+
+    private void checkAlive() {
+        if (!this.arena.scope().isAlive()) {
+            throw new IllegalStateException("Already closed");
+        }
+    }
+}
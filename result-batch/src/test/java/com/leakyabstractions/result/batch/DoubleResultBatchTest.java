@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link DoubleResultBatch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class DoubleResultBatchTest {
+
+    private static final int SIZE = 1_000;
+
+    /** Random values; multiples of seven are failures, so aggregations skip over many gaps. */
+    private static final double[] VALUES = new Random(42).doubles(SIZE, -1e6, 1e6).toArray();
+
+    private static DoubleResultBatch<String> batch() {
+        final DoubleResultBatch.Builder<String> builder = DoubleResultBatch.builder(0);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 7 == 0) {
+                builder.addFailure("f" + i);
+            } else {
+                builder.addSuccess(VALUES[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static DoubleStream successes() {
+        return IntStream.range(0, SIZE).filter(i -> i % 7 != 0).mapToDouble(i -> VALUES[i]);
+    }
+
+    @Test
+    void should_hold_outcomes_in_order() {
+        // Given
+        final DoubleResultBatch<String> batch = batch();
+        // Then
+        assertEquals(SIZE, batch.size());
+        assertEquals(143, batch.failureCount());
+        assertEquals(857, batch.successCount());
+        assertFalse(batch.isSuccess(7));
+        assertTrue(batch.isSuccess(8));
+        assertEquals(Results.doubleFailure("f7"), batch.get(7));
+        assertEquals(Results.doubleSuccess(VALUES[8]), batch.get(8));
+        assertEquals("DoubleResultBatch[size=1000, failures=143]", batch.toString());
+    }
+
+    @Test
+    void should_aggregate_success_values() {
+        // Given
+        final DoubleResultBatch<String> batch = batch();
+        // Then
+        assertEquals(successes().sum(), batch.sum(), 1e-6);
+        assertEquals(successes().min(), batch.min());
+        assertEquals(successes().max(), batch.max());
+    }
+
+    @Test
+    void should_ignore_failed_slots_when_aggregating() {
+        // Given
+        final DoubleResultBatch<String> positive = DoubleResultBatch.<String>builder(3)
+                .addSuccess(5.0).addFailure("a").addSuccess(7.0).build();
+        final DoubleResultBatch<String> negative = DoubleResultBatch.<String>builder(3)
+                .addSuccess(-5.0).addFailure("a").addSuccess(-7.0).build();
+        // Then
+        assertEquals(OptionalDouble.of(5.0), positive.min());
+        assertEquals(OptionalDouble.of(-5.0), negative.max());
+    }
+
+    @Test
+    void should_not_aggregate_failures_only() {
+        // Given
+        final DoubleResultBatch<String> batch = DoubleResultBatch.<String>builder(1).addFailure("a").build();
+        // Then
+        assertEquals(0.0, batch.sum());
+        assertEquals(OptionalDouble.empty(), batch.min());
+        assertEquals(OptionalDouble.empty(), batch.max());
+    }
+
+    @Test
+    void should_replace_failures() {
+        // When
+        final double[] array = batch().orElse(-1.0);
+        // Then
+        assertArrayEquals(IntStream.range(0, SIZE).mapToDouble(i -> i % 7 == 0 ? -1.0 : VALUES[i]).toArray(), array);
+        assertEquals(0.0, batch().orElse(0.0)[7]);
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // When
+        final DoubleResultBatch<String> mapped = batch().mapSuccess(i -> i + 1.0);
+        // Then
+        assertArrayEquals(successes().map(i -> i + 1.0).toArray(), mapped.streamSuccess().toArray());
+        assertEquals(batch().streamFailure().collect(toList()), mapped.streamFailure().collect(toList()));
+        assertEquals(successes().sum() + 857, mapped.sum(), 1e-6);
+    }
+
+    @Test
+    void should_stream_outcomes_in_order() {
+        // Given
+        final DoubleResultBatch<String> batch = batch();
+        // Then
+        assertArrayEquals(successes().toArray(), batch.streamSuccess().toArray());
+        assertEquals("f994", batch.streamFailure().reduce((a, b) -> b).orElse(null));
+        assertEquals(batch.get(999), batch.stream().skip(999).findFirst().orElse(null));
+    }
+
+    @Test
+    void should_split_success_values_evenly() {
+        // Given
+        final Spliterator.OfDouble spliterator = batch().streamSuccess().spliterator();
+        final List<Double> values = new ArrayList<>();
+        // When
+        MaskSpliteratorTest.splitEvenly(spliterator, values);
+        // Then
+        assertEquals(successes().boxed().collect(toList()), values);
+        assertArrayEquals(successes().toArray(), batch().streamSuccess().parallel().toArray());
+    }
+
+    @Test
+    void should_hold_successes_only() {
+        // Given
+        final double[] values = {3.0, 1.0, 2.0};
+        final DoubleResultBatch<String> batch = DoubleResultBatch.ofSuccesses(values);
+        // When
+        values[0] = 0.0;
+        // Then
+        assertArrayEquals(new double[] {3.0, 1.0, 2.0}, batch.orElse(-1.0));
+        assertEquals(0, batch.failureCount());
+        assertEquals(6.0, batch.sum());
+    }
+
+    @Test
+    void should_reject_invalid_arguments() {
+        assertThrows(IllegalArgumentException.class, () -> DoubleResultBatch.builder(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch().get(SIZE));
+        assertThrows(NullPointerException.class, () -> DoubleResultBatch.builder(1).addFailure(null));
+        assertThrows(NullPointerException.class, () -> batch().mapSuccess(null));
+    }
+}
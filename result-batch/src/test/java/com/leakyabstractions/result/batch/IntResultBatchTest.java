@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link IntResultBatch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class IntResultBatchTest {
+
+    private static final int SIZE = 1_000;
+
+    /** Random values; multiples of seven are failures, so aggregations skip over many gaps. */
+    private static final int[] VALUES = new Random(42).ints(SIZE, -1_000_000, 1_000_000).toArray();
+
+    private static IntResultBatch<String> batch() {
+        final IntResultBatch.Builder<String> builder = IntResultBatch.builder(0);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 7 == 0) {
+                builder.addFailure("f" + i);
+            } else {
+                builder.addSuccess(VALUES[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static IntStream successes() {
+        return IntStream.range(0, SIZE).filter(i -> i % 7 != 0).map(i -> VALUES[i]);
+    }
+
+    @Test
+    void should_hold_outcomes_in_order() {
+        // Given
+        final IntResultBatch<String> batch = batch();
+        // Then
+        assertEquals(SIZE, batch.size());
+        assertEquals(143, batch.failureCount());
+        assertEquals(857, batch.successCount());
+        assertFalse(batch.isSuccess(7));
+        assertTrue(batch.isSuccess(8));
+        assertEquals(Results.intFailure("f7"), batch.get(7));
+        assertEquals(Results.intSuccess(VALUES[8]), batch.get(8));
+        assertEquals("IntResultBatch[size=1000, failures=143]", batch.toString());
+    }
+
+    @Test
+    void should_aggregate_success_values() {
+        // Given
+        final IntResultBatch<String> batch = batch();
+        // Then
+        assertEquals(successes().asLongStream().sum(), batch.sum());
+        assertEquals(successes().min(), batch.min());
+        assertEquals(successes().max(), batch.max());
+    }
+
+    @Test
+    void should_ignore_failed_slots_when_aggregating() {
+        // Given
+        final IntResultBatch<String> positive = IntResultBatch.<String>builder(3)
+                .addSuccess(5).addFailure("a").addSuccess(7).build();
+        final IntResultBatch<String> negative = IntResultBatch.<String>builder(3)
+                .addSuccess(-5).addFailure("a").addSuccess(-7).build();
+        // Then
+        assertEquals(OptionalInt.of(5), positive.min());
+        assertEquals(OptionalInt.of(-5), negative.max());
+    }
+
+    @Test
+    void should_not_aggregate_failures_only() {
+        // Given
+        final IntResultBatch<String> batch = IntResultBatch.<String>builder(1).addFailure("a").build();
+        // Then
+        assertEquals(0L, batch.sum());
+        assertEquals(OptionalInt.empty(), batch.min());
+        assertEquals(OptionalInt.empty(), batch.max());
+    }
+
+    @Test
+    void should_replace_failures() {
+        // When
+        final int[] array = batch().orElse(-1);
+        // Then
+        assertArrayEquals(IntStream.range(0, SIZE).map(i -> i % 7 == 0 ? -1 : VALUES[i]).toArray(), array);
+        assertEquals(0, batch().orElse(0)[7]);
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // When
+        final IntResultBatch<String> mapped = batch().mapSuccess(i -> i + 1);
+        // Then
+        assertArrayEquals(successes().map(i -> i + 1).toArray(), mapped.streamSuccess().toArray());
+        assertEquals(batch().streamFailure().collect(toList()), mapped.streamFailure().collect(toList()));
+        assertEquals(successes().asLongStream().sum() + 857, mapped.sum());
+    }
+
+    @Test
+    void should_stream_outcomes_in_order() {
+        // Given
+        final IntResultBatch<String> batch = batch();
+        // Then
+        assertArrayEquals(successes().toArray(), batch.streamSuccess().toArray());
+        assertEquals("f994", batch.streamFailure().reduce((a, b) -> b).orElse(null));
+        assertEquals(batch.get(999), batch.stream().skip(999).findFirst().orElse(null));
+    }
+
+    @Test
+    void should_split_success_values_evenly() {
+        // Given
+        final Spliterator.OfInt spliterator = batch().streamSuccess().spliterator();
+        final List<Integer> values = new ArrayList<>();
+        // When
+        MaskSpliteratorTest.splitEvenly(spliterator, values);
+        // Then
+        assertEquals(successes().boxed().collect(toList()), values);
+        assertArrayEquals(successes().toArray(), batch().streamSuccess().parallel().toArray());
+    }
+
+    @Test
+    void should_hold_successes_only() {
+        // Given
+        final int[] values = {3, 1, 2};
+        final IntResultBatch<String> batch = IntResultBatch.ofSuccesses(values);
+        // When
+        values[0] = 0;
+        // Then
+        assertArrayEquals(new int[] {3, 1, 2}, batch.orElse(-1));
+        assertEquals(0, batch.failureCount());
+        assertEquals(6L, batch.sum());
+    }
+
+    @Test
+    void should_reject_invalid_arguments() {
+        assertThrows(IllegalArgumentException.class, () -> IntResultBatch.builder(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch().get(SIZE));
+        assertThrows(NullPointerException.class, () -> IntResultBatch.builder(1).addFailure(null));
+        assertThrows(NullPointerException.class, () -> batch().mapSuccess(null));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link LongResultBatch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class LongResultBatchTest {
+
+    private static final int SIZE = 1_000;
+
+    /** Random values; multiples of seven are failures, so aggregations skip over many gaps. */
+    private static final long[] VALUES = new Random(42).longs(SIZE, -1L << 40, 1L << 40).toArray();
+
+    private static LongResultBatch<String> batch() {
+        final LongResultBatch.Builder<String> builder = LongResultBatch.builder(0);
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 7 == 0) {
+                builder.addFailure("f" + i);
+            } else {
+                builder.addSuccess(VALUES[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static LongStream successes() {
+        return IntStream.range(0, SIZE).filter(i -> i % 7 != 0).mapToLong(i -> VALUES[i]);
+    }
+
+    @Test
+    void should_hold_outcomes_in_order() {
+        // Given
+        final LongResultBatch<String> batch = batch();
+        // Then
+        assertEquals(SIZE, batch.size());
+        assertEquals(143, batch.failureCount());
+        assertEquals(857, batch.successCount());
+        assertFalse(batch.isSuccess(7));
+        assertTrue(batch.isSuccess(8));
+        assertEquals(Results.longFailure("f7"), batch.get(7));
+        assertEquals(Results.longSuccess(VALUES[8]), batch.get(8));
+        assertEquals("LongResultBatch[size=1000, failures=143]", batch.toString());
+    }
+
+    @Test
+    void should_aggregate_success_values() {
+        // Given
+        final LongResultBatch<String> batch = batch();
+        // Then
+        assertEquals(successes().sum(), batch.sum());
+        assertEquals(successes().min(), batch.min());
+        assertEquals(successes().max(), batch.max());
+    }
+
+    @Test
+    void should_ignore_failed_slots_when_aggregating() {
+        // Given
+        final LongResultBatch<String> positive = LongResultBatch.<String>builder(3)
+                .addSuccess(5L).addFailure("a").addSuccess(7L).build();
+        final LongResultBatch<String> negative = LongResultBatch.<String>builder(3)
+                .addSuccess(-5L).addFailure("a").addSuccess(-7L).build();
+        // Then
+        assertEquals(OptionalLong.of(5L), positive.min());
+        assertEquals(OptionalLong.of(-5L), negative.max());
+    }
+
+    @Test
+    void should_not_aggregate_failures_only() {
+        // Given
+        final LongResultBatch<String> batch = LongResultBatch.<String>builder(1).addFailure("a").build();
+        // Then
+        assertEquals(0L, batch.sum());
+        assertEquals(OptionalLong.empty(), batch.min());
+        assertEquals(OptionalLong.empty(), batch.max());
+    }
+
+    @Test
+    void should_replace_failures() {
+        // When
+        final long[] array = batch().orElse(-1L);
+        // Then
+        assertArrayEquals(IntStream.range(0, SIZE).mapToLong(i -> i % 7 == 0 ? -1L : VALUES[i]).toArray(), array);
+        assertEquals(0L, batch().orElse(0L)[7]);
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // When
+        final LongResultBatch<String> mapped = batch().mapSuccess(i -> i + 1L);
+        // Then
+        assertArrayEquals(successes().map(i -> i + 1L).toArray(), mapped.streamSuccess().toArray());
+        assertEquals(batch().streamFailure().collect(toList()), mapped.streamFailure().collect(toList()));
+        assertEquals(successes().sum() + 857, mapped.sum());
+    }
+
+    @Test
+    void should_stream_outcomes_in_order() {
+        // Given
+        final LongResultBatch<String> batch = batch();
+        // Then
+        assertArrayEquals(successes().toArray(), batch.streamSuccess().toArray());
+        assertEquals("f994", batch.streamFailure().reduce((a, b) -> b).orElse(null));
+        assertEquals(batch.get(999), batch.stream().skip(999).findFirst().orElse(null));
+    }
+
+    @Test
+    void should_split_success_values_evenly() {
+        // Given
+        final Spliterator.OfLong spliterator = batch().streamSuccess().spliterator();
+        final List<Long> values = new ArrayList<>();
+        // When
+        MaskSpliteratorTest.splitEvenly(spliterator, values);
+        // Then
+        assertEquals(successes().boxed().collect(toList()), values);
+        assertArrayEquals(successes().toArray(), batch().streamSuccess().parallel().toArray());
+    }
+
+    @Test
+    void should_hold_successes_only() {
+        // Given
+        final long[] values = {3L, 1L, 2L};
+        final LongResultBatch<String> batch = LongResultBatch.ofSuccesses(values);
+        // When
+        values[0] = 0L;
+        // Then
+        assertArrayEquals(new long[] {3L, 1L, 2L}, batch.orElse(-1L));
+        assertEquals(0, batch.failureCount());
+        assertEquals(6L, batch.sum());
+    }
+
+    @Test
+    void should_reject_invalid_arguments() {
+        assertThrows(IllegalArgumentException.class, () -> LongResultBatch.builder(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch().get(SIZE));
+        assertThrows(NullPointerException.class, () -> LongResultBatch.builder(1).addFailure(null));
+        assertThrows(NullPointerException.class, () -> batch().mapSuccess(null));
+    }
+}
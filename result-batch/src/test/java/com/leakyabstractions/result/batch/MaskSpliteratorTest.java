@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MaskSpliterator}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class MaskSpliteratorTest {
+
+    private static ResultBatch<Integer, Integer> batch(int size, IntPredicate isSuccess) {
+        final ResultBatch.Builder<Integer, Integer> builder = ResultBatch.builder(size);
+        for (int i = 0; i < size; i++) {
+            if (isSuccess.test(i)) {
+                builder.addSuccess(i);
+            } else {
+                builder.addFailure(i);
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<Integer> indexes(int size, IntPredicate predicate) {
+        return IntStream.range(0, size).filter(predicate).boxed().collect(toList());
+    }
+
+    /** Splits recursively, checking that each split leaves half of the values on each side. */
+    static <T> void splitEvenly(Spliterator<T> spliterator, List<T> values) {
+        final long size = spliterator.estimateSize();
+        assertEquals(size, spliterator.getExactSizeIfKnown());
+        final Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            assertTrue(size < 2);
+            spliterator.forEachRemaining(values::add);
+            return;
+        }
+        assertEquals(size >>> 1, prefix.estimateSize());
+        assertEquals(size - (size >>> 1), spliterator.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        splitEvenly(prefix, values);
+        splitEvenly(spliterator, values);
+    }
+
+    @Test
+    void should_report_sized_and_subsized_characteristics() {
+        // Given
+        final Spliterator<Integer> spliterator = batch(100, i -> i % 2 == 0).streamSuccess().spliterator();
+        // Then
+        assertTrue(spliterator.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL
+                        | Spliterator.IMMUTABLE));
+        assertEquals(50, spliterator.estimateSize());
+    }
+
+    @Test
+    void should_split_successes_evenly() {
+        for (int size : new int[] {0, 1, 2, 63, 64, 65, 130, 1_000}) {
+            for (int modulo : new int[] {1, 2, 3, 7, 100}) {
+                // Given
+                final IntPredicate isSuccess = i -> i % modulo == 0;
+                final List<Integer> values = new ArrayList<>();
+                // When
+                splitEvenly(batch(size, isSuccess).streamSuccess().spliterator(), values);
+                // Then
+                assertEquals(indexes(size, isSuccess), values, size + " % " + modulo);
+            }
+        }
+    }
+
+    @Test
+    void should_split_failures_evenly() {
+        for (int size : new int[] {0, 1, 2, 63, 64, 65, 130, 1_000}) {
+            for (int modulo : new int[] {1, 2, 3, 7, 100}) {
+                // Given
+                final IntPredicate isSuccess = i -> i % modulo == 0;
+                final List<Integer> values = new ArrayList<>();
+                // When
+                splitEvenly(batch(size, isSuccess).streamFailure().spliterator(), values);
+                // Then
+                assertEquals(indexes(size, isSuccess.negate()), values, size + " % " + modulo);
+            }
+        }
+    }
+
+    @Test
+    void should_split_after_advancing() {
+        // Given
+        final Spliterator<Integer> spliterator = batch(200, i -> i % 3 != 0).streamSuccess().spliterator();
+        final List<Integer> values = new ArrayList<>();
+        // When
+        for (int i = 0; i < 70; i++) {
+            spliterator.tryAdvance(values::add);
+        }
+        splitEvenly(spliterator, values);
+        // Then
+        assertEquals(indexes(200, i -> i % 3 != 0), values);
+    }
+
+    @Test
+    void should_not_split_single_value() {
+        // Given
+        final Spliterator<Integer> spliterator = batch(100, i -> i == 99).streamSuccess().spliterator();
+        // Then
+        assertNull(spliterator.trySplit());
+        assertEquals(1, spliterator.estimateSize());
+    }
+
+    @Test
+    void should_produce_same_values_in_parallel() {
+        // Given
+        final ResultBatch<Integer, Integer> batch = batch(100_000, i -> Integer.bitCount(i) % 2 == 0);
+        // Then
+        assertEquals(
+                indexes(100_000, i -> Integer.bitCount(i) % 2 == 0),
+                batch.streamSuccess().parallel().collect(toList()));
+        assertEquals(
+                indexes(100_000, i -> Integer.bitCount(i) % 2 != 0),
+                batch.streamFailure().parallel().collect(toList()));
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link OffHeapResultBatch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class OffHeapResultBatchTest {
+
+    private static final FixedSizeCodec<Long> LONGS = new FixedSizeCodec<Long>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer slot) {
+            slot.putLong(0, value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    private static final FixedSizeCodec<Short> SHORTS = new FixedSizeCodec<Short>() {
+        @Override
+        public int size() {
+            return Short.BYTES;
+        }
+
+        @Override
+        public void encode(Short value, ByteBuffer slot) {
+            slot.putShort(value);
+        }
+
+        @Override
+        public Short decode(ByteBuffer buffer, int offset) {
+            return buffer.getShort(offset);
+        }
+    };
+
+    /** Claims to take two bytes, but writes eight. */
+    private static final FixedSizeCodec<Long> OVERRUNNING = new FixedSizeCodec<Long>() {
+        @Override
+        public int size() {
+            return Short.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer slot) {
+            slot.putLong(0, value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return (long) buffer.getShort(offset);
+        }
+    };
+
+    @Test
+    void should_hold_outcomes_in_order() {
+        try (OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(3, LONGS, SHORTS)) {
+            // When
+            batch.addSuccess(Long.MAX_VALUE).addFailure((short) -1).add(Results.success(-1L));
+            // Then
+            assertEquals(3, batch.size());
+            assertEquals(Results.success(Long.MAX_VALUE), batch.get(0));
+            assertEquals(Results.failure((short) -1), batch.get(1));
+            assertEquals(Results.success(-1L), batch.get(2));
+            assertTrue(batch.isSuccess(0));
+            assertFalse(batch.isSuccess(1));
+            assertEquals("OffHeapResultBatch[size=3, capacity=3]", batch.toString());
+        }
+    }
+
+    @Test
+    void should_visit_outcomes_with_cursor() {
+        try (OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(10, LONGS, SHORTS)) {
+            // Given
+            for (long i = 0; i < 10; i++) {
+                if (i % 3 == 0) {
+                    batch.addFailure((short) i);
+                } else {
+                    batch.addSuccess(i * 1_000_000_000_000L);
+                }
+            }
+            final OffHeapResultBatch.Cursor<Long, Short> cursor = batch.cursor();
+            // Then
+            for (int i = 0; i < 10; i++) {
+                assertSame(cursor, cursor.moveTo(i));
+                assertEquals(batch.get(i), cursor.toResult());
+                if (cursor.isSuccess()) {
+                    assertEquals(i * 1_000_000_000_000L, cursor.buffer().getLong(cursor.valueOffset()));
+                    assertThrows(IllegalStateException.class, cursor::failure);
+                } else {
+                    assertEquals((short) i, cursor.failure());
+                    assertThrows(IllegalStateException.class, cursor::success);
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_pass_slot_of_exactly_codec_size() {
+        // Given
+        final List<ByteBuffer> slots = new ArrayList<>();
+        final FixedSizeCodec<Short> codec = new FixedSizeCodec<Short>() {
+            @Override
+            public int size() {
+                return Short.BYTES;
+            }
+
+            @Override
+            public void encode(Short value, ByteBuffer slot) {
+                slots.add(slot);
+                SHORTS.encode(value, slot);
+            }
+
+            @Override
+            public Short decode(ByteBuffer buffer, int offset) {
+                return SHORTS.decode(buffer, offset);
+            }
+        };
+        try (OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(2, LONGS, codec)) {
+            // When
+            batch.addFailure((short) 1).addFailure((short) 2);
+            // Then
+            for (ByteBuffer slot : slots) {
+                assertEquals(Short.BYTES, slot.capacity());
+                assertEquals(ByteOrder.nativeOrder(), slot.order());
+            }
+            assertEquals(Results.failure((short) 1), batch.get(0));
+            assertEquals(Results.failure((short) 2), batch.get(1));
+        }
+    }
+
+    @Test
+    void should_not_let_codec_write_past_its_size() {
+        try (OffHeapResultBatch<Long, Long> batch = OffHeapResultBatch.allocate(3, OVERRUNNING, LONGS)) {
+            // Given
+            batch.addFailure(1L);
+            // When
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.addSuccess(-1L));
+            batch.addFailure(2L);
+            // Then
+            assertEquals(2, batch.size());
+            assertEquals(Results.failure(1L), batch.get(0));
+            assertEquals(Results.failure(2L), batch.get(1));
+        }
+    }
+
+    @Test
+    void should_not_let_codec_write_past_end_of_slot() {
+        // Given
+        final FixedSizeCodec<Short> codec = new FixedSizeCodec<Short>() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public void encode(Short value, ByteBuffer slot) {
+                slot.putShort(value);
+            }
+
+            @Override
+            public Short decode(ByteBuffer buffer, int offset) {
+                return (short) buffer.get(offset);
+            }
+        };
+        try (OffHeapResultBatch<Short, Short> batch = OffHeapResultBatch.allocate(1, codec, codec)) {
+            // Then
+            assertThrows(BufferOverflowException.class, () -> batch.addSuccess((short) 1));
+            assertEquals(0, batch.size());
+        }
+    }
+
+    @Test
+    void should_reject_outcomes_when_full() {
+        try (OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(1, LONGS, SHORTS)) {
+            // Given
+            batch.addSuccess(1L);
+            // Then
+            assertThrows(IllegalStateException.class, () -> batch.addFailure((short) 1));
+            assertEquals(1, batch.size());
+        }
+    }
+
+    @Test
+    void should_reject_access_when_closed() {
+        // Given
+        final OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(2, LONGS, SHORTS);
+        batch.addSuccess(1L);
+        // When
+        batch.close();
+        batch.close();
+        // Then
+        assertThrows(IllegalStateException.class, () -> batch.get(0));
+        assertThrows(IllegalStateException.class, () -> batch.addSuccess(2L));
+        assertThrows(IllegalStateException.class, () -> batch.cursor().moveTo(0));
+    }
+
+    @Test
+    void should_reject_invalid_arguments() {
+        try (OffHeapResultBatch<Long, Short> batch = OffHeapResultBatch.allocate(1, LONGS, SHORTS)) {
+            // Then
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.get(0));
+            assertThrows(NullPointerException.class, () -> batch.addSuccess(null));
+        }
+        assertThrows(IllegalArgumentException.class, () -> OffHeapResultBatch.allocate(-1, LONGS, SHORTS));
+        assertThrows(ArithmeticException.class, () -> OffHeapResultBatch.allocate(Integer.MAX_VALUE, LONGS, SHORTS));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.batch;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link ResultBatch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultBatchTest {
+
+    /** Holds 150 outcomes, spanning three words of the mask: multiples of three are failures. */
+    private static ResultBatch<Integer, String> batch() {
+        final ResultBatch.Builder<Integer, String> builder = ResultBatch.builder(0);
+        for (int i = 0; i < 150; i++) {
+            if (i % 3 == 0) {
+                builder.addFailure("f" + i);
+            } else {
+                builder.addSuccess(i);
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<Integer> indexes(boolean failures) {
+        return IntStream.range(0, 150).filter(i -> i % 3 == 0 == failures).boxed().collect(toList());
+    }
+
+    @Test
+    void should_hold_outcomes_in_order() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // Then
+        assertEquals(150, batch.size());
+        assertEquals(100, batch.successCount());
+        assertEquals(50, batch.failureCount());
+        assertFalse(batch.isSuccess(0));
+        assertTrue(batch.isSuccess(149));
+        assertEquals(Results.failure("f63"), batch.get(63));
+        assertEquals(Results.success(64), batch.get(64));
+        assertEquals("ResultBatch[size=150, successes=100]", batch.toString());
+    }
+
+    @Test
+    void should_create_batch_from_results() {
+        // Given
+        final List<Result<Integer, String>> results = asList(
+                Results.success(1), Results.failure("a"), Results.success(2));
+        // When
+        final ResultBatch<Integer, String> batch = ResultBatch.of(results);
+        // Then
+        assertEquals(results, batch.stream().collect(toList()));
+    }
+
+    @Test
+    void should_return_shared_empty_batch() {
+        // Then
+        assertSame(ResultBatch.empty(), ResultBatch.of(Collections.emptyList()));
+        assertSame(ResultBatch.empty(), ResultBatch.builder(10).build());
+        assertEquals(0, ResultBatch.empty().streamSuccess().count());
+        assertEquals(0, ResultBatch.empty().streamFailure().count());
+    }
+
+    @Test
+    void should_not_be_affected_by_later_additions() {
+        // Given
+        final ResultBatch.Builder<Integer, String> builder = ResultBatch.<Integer, String>builder(1).addSuccess(1);
+        final ResultBatch<Integer, String> first = builder.build();
+        // When
+        final ResultBatch<Integer, String> second = builder.addFailure("a").build();
+        // Then
+        assertEquals(1, first.size());
+        assertEquals(2, second.size());
+        assertEquals(Results.failure("a"), second.get(1));
+    }
+
+    @Test
+    void should_stream_values_in_index_order() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // Then
+        assertEquals(indexes(false), batch.streamSuccess().collect(toList()));
+        assertEquals(
+                indexes(true).stream().map(i -> "f" + i).collect(toList()),
+                batch.streamFailure().collect(toList()));
+    }
+
+    @Test
+    void should_map_success_values_only() {
+        // When
+        final ResultBatch<Integer, String> mapped = batch().mapSuccess(i -> -i);
+        // Then
+        assertEquals(indexes(false).stream().map(i -> -i).collect(toList()), mapped.streamSuccess().collect(toList()));
+        assertEquals(batch().streamFailure().collect(toList()), mapped.streamFailure().collect(toList()));
+    }
+
+    @Test
+    void should_map_failure_values_only() {
+        // When
+        final ResultBatch<Integer, Integer> mapped = batch().mapFailure(String::length);
+        // Then
+        assertEquals(batch().streamSuccess().collect(toList()), mapped.streamSuccess().collect(toList()));
+        assertEquals(Results.failure(3), mapped.get(99));
+        assertEquals(50, mapped.streamFailure().count());
+    }
+
+    @Test
+    void should_filter_success_values() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // When
+        final ResultBatch<Integer, String> filtered = batch.filter(i -> i < 100, i -> "too big " + i);
+        // Then
+        assertEquals(Results.failure("too big 100"), filtered.get(100));
+        assertEquals(Results.success(98), filtered.get(98));
+        assertEquals(66, filtered.successCount());
+        assertEquals(Results.success(100), batch.get(100));
+    }
+
+    @Test
+    void should_recover_failure_values() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // When
+        final ResultBatch<Integer, String> recovered = batch.recover(f -> f.endsWith("9"), f -> -1);
+        // Then
+        assertEquals(Results.success(-1), recovered.get(129));
+        assertEquals(Results.failure("f132"), recovered.get(132));
+        assertEquals(105, recovered.successCount());
+        assertEquals(Results.failure("f129"), batch.get(129));
+    }
+
+    @Test
+    void should_return_same_batch_when_nothing_changes() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // Then
+        assertSame(batch, batch.filter(i -> true, i -> "never"));
+        assertSame(batch, batch.recover(f -> false, f -> 0));
+    }
+
+    @Test
+    void should_not_recover_unused_bits_of_last_word() {
+        // When
+        final ResultBatch<Integer, String> recovered = batch().recover(f -> true, f -> 0);
+        // Then
+        assertEquals(150, recovered.successCount());
+        assertEquals(0, recovered.failureCount());
+    }
+
+    @Test
+    void should_reject_invalid_arguments() {
+        // Given
+        final ResultBatch<Integer, String> batch = batch();
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> ResultBatch.builder(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(150));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isSuccess(-1));
+        assertThrows(NullPointerException.class, () -> ResultBatch.builder(1).addSuccess(null));
+        assertThrows(NullPointerException.class, () -> batch.mapSuccess(i -> null));
+    }
+}
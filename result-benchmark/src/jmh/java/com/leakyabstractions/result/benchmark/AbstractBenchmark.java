@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Shared state for all benchmarks.
+ * <p>
+ * Every benchmark runs twice: once on the <em>success</em> path and once on the <em>failure</em> path. Each
+ * {@code Result}-based benchmark is paired with an exception-based baseline that computes the same value with
+ * {@code try}/{@code catch}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractBenchmark {
+
+    static final String SUCCESS = "SUCCESS";
+    static final String FAILURE = "FAILURE";
+    static final String ALTERNATIVE = "ALTERNATIVE";
+
+    @Param({"success", "failure"})
+    public String path;
+
+    boolean successful;
+
+    @Setup
+    public void setup() {
+        this.successful = "success".equals(this.path);
+    }
+
+    /**
+     * Performs an operation that returns a {@code Result}.
+     *
+     * @return a new {@code Result}, successful or failed depending on the benchmark path
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    Result<String, String> result() {
+        return this.successful ? Results.success(SUCCESS) : Results.failure(FAILURE);
+    }
+
+    /**
+     * Performs the same operation as {@link #result()}, but throws an exception when it fails.
+     *
+     * @return the success value
+     * @throws OperationFailedException if the benchmark path is failure
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    String operation() throws OperationFailedException {
+        if (this.successful) {
+            return SUCCESS;
+        }
+        throw new OperationFailedException(FAILURE);
+    }
+
+    /** Thrown by the exception-based baselines when the operation fails. */
+    static final class OperationFailedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        OperationFailedException(String message) {
+            super(message);
+        }
+    }
+}
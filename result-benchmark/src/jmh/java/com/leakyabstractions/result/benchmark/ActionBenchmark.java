@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@code ifSuccess}, {@code ifFailure} and {@code ifSuccessOrElse}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ActionBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public void ifSuccess(Blackhole blackhole) {
+        this.result().ifSuccess(blackhole::consume);
+    }
+
+    @Benchmark
+    public void ifSuccessBaseline(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.operation());
+        } catch (OperationFailedException e) {
+            // Ignore failure
+        }
+    }
+
+    @Benchmark
+    public void ifFailure(Blackhole blackhole) {
+        this.result().ifFailure(blackhole::consume);
+    }
+
+    @Benchmark
+    public void ifFailureBaseline(Blackhole blackhole) {
+        try {
+            this.operation();
+        } catch (OperationFailedException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void ifSuccessOrElse(Blackhole blackhole) {
+        this.result().ifSuccessOrElse(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void ifSuccessOrElseBaseline(Blackhole blackhole) {
+        try {
+            blackhole.consume(this.operation());
+        } catch (OperationFailedException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+}
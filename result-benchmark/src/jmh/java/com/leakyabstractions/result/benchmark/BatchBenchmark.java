@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.batch.IntResultBatch;
+import com.leakyabstractions.result.batch.ResultBatch;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks bulk operations on a {@code ResultBatch} against the same operations on a list of results.
+ * <p>
+ * On the failure path, every other outcome is failed; or one in a hundred, for primitive outcomes.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class BatchBenchmark extends AbstractBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private List<Result<String, String>> results;
+    private ResultBatch<String, String> batch;
+    private List<IntResult<String>> intResults;
+    private IntResultBatch<String> intBatch;
+
+    @Setup
+    public void setupResults() {
+        final boolean mixed = !"success".equals(this.path);
+        this.results = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            this.results.add(mixed && i % 2 == 0 ? Results.failure(FAILURE) : Results.success(SUCCESS));
+        }
+        this.batch = ResultBatch.of(this.results);
+        this.intResults = new ArrayList<>(SIZE);
+        final IntResultBatch.Builder<String> builder = IntResultBatch.builder(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final IntResult<String> result =
+                    mixed && i % 100 == 0 ? Results.intFailure(FAILURE) : Results.intSuccess(i);
+            this.intResults.add(result);
+            builder.add(result);
+        }
+        this.intBatch = builder.build();
+    }
+
+    @Benchmark
+    public ResultBatch<Integer, String> mapSuccess() {
+        return this.batch.mapSuccess(String::length);
+    }
+
+    @Benchmark
+    public List<Result<Integer, String>> mapSuccessBaseline() {
+        final List<Result<Integer, String>> mapped = new ArrayList<>(SIZE);
+        for (final Result<String, String> result : this.results) {
+            mapped.add(result.mapSuccess(String::length));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public long streamSuccess() {
+        return this.batch.streamSuccess().count();
+    }
+
+    @Benchmark
+    public long streamSuccessBaseline() {
+        return this.results.stream().flatMap(Result::streamSuccess).count();
+    }
+
+    @Benchmark
+    public long intSum() {
+        return this.intBatch.sum();
+    }
+
+    @Benchmark
+    public long intSumBaseline() {
+        long sum = 0;
+        for (final IntResult<String> result : this.intResults) {
+            sum += result.orElse(0);
+        }
+        return sum;
+    }
+}
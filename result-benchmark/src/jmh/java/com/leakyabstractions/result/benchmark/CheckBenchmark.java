@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks {@code hasSuccess} and {@code hasFailure}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class CheckBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public boolean hasSuccess() {
+        return this.result().hasSuccess();
+    }
+
+    @Benchmark
+    public boolean hasSuccessBaseline() {
+        try {
+            this.operation();
+            return true;
+        } catch (OperationFailedException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean hasFailure() {
+        return this.result().hasFailure();
+    }
+
+    @Benchmark
+    public boolean hasFailureBaseline() {
+        try {
+            this.operation();
+            return false;
+        } catch (OperationFailedException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.async.ResultCircuitBreaker;
+
+/**
+ * Benchmarks calling an operation through a {@code ResultCircuitBreaker} against calling it directly.
+ * <p>
+ * On the failure path, the circuit breaker opens after a few calls and stays open, so calls are rejected.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class CircuitBreakerBenchmark extends AbstractBenchmark {
+
+    private ResultCircuitBreaker<String> breaker;
+
+    @Setup
+    public void setupBreaker() {
+        this.breaker = ResultCircuitBreaker.builder(ALTERNATIVE).openDuration(Duration.ofDays(1)).build();
+    }
+
+    @Benchmark
+    public Result<String, String> call() {
+        return this.breaker.call(this::result);
+    }
+
+    @Benchmark
+    public Result<String, String> callBaseline() {
+        return this.result();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Benchmarks {@code filter} and {@code recover}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ConditionalBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Result<String, String> filter() {
+        return this.result().filter(SUCCESS::equals, s -> FAILURE);
+    }
+
+    @Benchmark
+    public String filterBaseline() {
+        try {
+            final String value = this.operation();
+            if (!SUCCESS.equals(value)) {
+                throw new OperationFailedException(FAILURE);
+            }
+            return value;
+        } catch (OperationFailedException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> recover() {
+        return this.result().recover(FAILURE::equals, f -> ALTERNATIVE);
+    }
+
+    @Benchmark
+    public String recoverBaseline() {
+        try {
+            return this.operation();
+        } catch (OperationFailedException e) {
+            return FAILURE.equals(e.getMessage()) ? ALTERNATIVE : e.getMessage();
+        }
+    }
+}
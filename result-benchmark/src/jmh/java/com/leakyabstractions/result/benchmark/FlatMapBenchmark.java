@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks {@code flatMapSuccess}, {@code flatMapFailure} and {@code flatMap}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class FlatMapBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Result<String, String> flatMapSuccess() {
+        return this.result().flatMapSuccess(this::next);
+    }
+
+    @Benchmark
+    public String flatMapSuccessBaseline() {
+        try {
+            return this.nextOperation(this.operation());
+        } catch (OperationFailedException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> flatMapFailure() {
+        return this.result().flatMapFailure(this::next);
+    }
+
+    @Benchmark
+    public String flatMapFailureBaseline() {
+        try {
+            return this.operation();
+        } catch (OperationFailedException e) {
+            return this.nextOperationOrMessage(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> flatMap() {
+        return this.result().flatMap(this::next, this::next);
+    }
+
+    @Benchmark
+    public String flatMapBaseline() {
+        String value;
+        try {
+            value = this.operation();
+        } catch (OperationFailedException e) {
+            value = e.getMessage();
+        }
+        return this.nextOperationOrMessage(value);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    Result<String, String> next(String value) {
+        return this.successful ? Results.success(value.toLowerCase()) : Results.failure(value.toLowerCase());
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    String nextOperation(String value) throws OperationFailedException {
+        if (this.successful) {
+            return value.toLowerCase();
+        }
+        throw new OperationFailedException(value.toLowerCase());
+    }
+
+    private String nextOperationOrMessage(String value) {
+        try {
+            return this.nextOperation(value);
+        } catch (OperationFailedException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.core.FailureException;
+
+/**
+ * Benchmarks {@code getSuccess}, {@code getFailure}, {@code orElse}, {@code orElseMap}, {@code orElseThrow} and
+ * {@code fold}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class GetBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Optional<String> getSuccess() {
+        return this.result().getSuccess();
+    }
+
+    @Benchmark
+    public Optional<String> getSuccessBaseline() {
+        try {
+            return Optional.of(this.operation());
+        } catch (OperationFailedException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public Optional<String> getFailure() {
+        return this.result().getFailure();
+    }
+
+    @Benchmark
+    public Optional<String> getFailureBaseline() {
+        try {
+            this.operation();
+            return Optional.empty();
+        } catch (OperationFailedException e) {
+            return Optional.of(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public String orElse() {
+        return this.result().orElse(ALTERNATIVE);
+    }
+
+    @Benchmark
+    public String orElseBaseline() {
+        try {
+            return this.operation();
+        } catch (OperationFailedException e) {
+            return ALTERNATIVE;
+        }
+    }
+
+    @Benchmark
+    public int orElseMap() {
+        return this.result().orElseMap(String::toLowerCase).length();
+    }
+
+    @Benchmark
+    public int orElseMapBaseline() {
+        try {
+            return this.operation().length();
+        } catch (OperationFailedException e) {
+            return e.getMessage().toLowerCase().length();
+        }
+    }
+
+    @Benchmark
+    public String orElseThrow() {
+        try {
+            return this.result().orElseThrow(FailureException::new);
+        } catch (FailureException e) {
+            return ALTERNATIVE;
+        }
+    }
+
+    @Benchmark
+    public String orElseThrowBaseline() {
+        try {
+            return this.operation();
+        } catch (OperationFailedException e) {
+            return ALTERNATIVE;
+        }
+    }
+
+    @Benchmark
+    public int fold() {
+        return this.result().foldToInt(String::length, f -> -1);
+    }
+
+    @Benchmark
+    public int foldBaseline() {
+        try {
+            return this.operation().length();
+        } catch (OperationFailedException e) {
+            return -1;
+        }
+    }
+}
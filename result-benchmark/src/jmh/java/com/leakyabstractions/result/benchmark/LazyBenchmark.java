@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResult;
+
+/**
+ * Benchmarks building a chain of operations on a {@code LazyResult} that is never read, against building the same
+ * chain eagerly.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class LazyBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Result<String, String> unread() {
+        return LazyResult.of(this::result).mapSuccess(LazyBenchmark::enrich).mapFailure(LazyBenchmark::enrich);
+    }
+
+    @Benchmark
+    public Result<String, String> unreadBaseline() {
+        return this.result().mapSuccess(LazyBenchmark::enrich).mapFailure(LazyBenchmark::enrich);
+    }
+
+    private static String enrich(String value) {
+        return String.format(Locale.ROOT, "%s-%08x", value.toLowerCase(Locale.ROOT), value.hashCode());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Benchmarks {@code mapSuccess}, {@code mapFailure} and {@code map}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class MapBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public Result<String, String> mapSuccess() {
+        return this.result().mapSuccess(String::toLowerCase);
+    }
+
+    @Benchmark
+    public String mapSuccessBaseline() {
+        try {
+            return this.operation().toLowerCase();
+        } catch (OperationFailedException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> mapFailure() {
+        return this.result().mapFailure(String::toLowerCase);
+    }
+
+    @Benchmark
+    public String mapFailureBaseline() {
+        try {
+            return this.operation();
+        } catch (OperationFailedException e) {
+            return e.getMessage().toLowerCase();
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> map() {
+        return this.result().map(String::toLowerCase, String::toLowerCase);
+    }
+
+    @Benchmark
+    public String mapBaseline() {
+        try {
+            return this.operation().toLowerCase();
+        } catch (OperationFailedException e) {
+            return e.getMessage().toLowerCase();
+        }
+    }
+}
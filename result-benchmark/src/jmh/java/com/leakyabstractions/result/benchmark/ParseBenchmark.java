@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.parse.Parsers;
+
+/**
+ * Benchmarks {@code Parsers} against the JDK parsers that throw exceptions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ParseBenchmark extends AbstractBenchmark {
+
+    private static final LocalDate EPOCH = LocalDate.ofEpochDay(0);
+
+    @Benchmark
+    public int parseInt() {
+        return Parsers.parseInt(this.number()).orElse(-1);
+    }
+
+    @Benchmark
+    public int parseIntBaseline() {
+        try {
+            return Integer.parseInt(this.number());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        return Parsers.parseDouble(this.number()).orElse(Double.NaN);
+    }
+
+    @Benchmark
+    public double parseDoubleBaseline() {
+        try {
+            return Double.parseDouble(this.number());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return Parsers.parseUuid(this.uuid()).orElse(null);
+    }
+
+    @Benchmark
+    public UUID parseUuidBaseline() {
+        try {
+            return UUID.fromString(this.uuid());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public LocalDate parseLocalDate() {
+        return Parsers.parseLocalDate(this.date()).orElse(EPOCH);
+    }
+
+    @Benchmark
+    public LocalDate parseLocalDateBaseline() {
+        try {
+            return LocalDate.parse(this.date());
+        } catch (DateTimeParseException e) {
+            return EPOCH;
+        }
+    }
+
+    private String number() {
+        return this.successful ? "1234567" : "1234x67";
+    }
+
+    private String uuid() {
+        return this.successful ? "123e4567-e89b-12d3-a456-426614174000" : "123e4567-e89b-12d3-a456-42661417400x";
+    }
+
+    private String date() {
+        return this.successful ? "2024-02-29" : "2024-02-3x";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Partition;
+import com.leakyabstractions.result.core.ResultCollectors;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks {@code ResultCollectors::partitioning} against two passes with {@code streamSuccess} and
+ * {@code streamFailure}.
+ * <p>
+ * On the failure path, every other result is failed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class PartitionBenchmark extends AbstractBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private List<Result<String, String>> results;
+
+    @Setup
+    public void setupResults() {
+        final boolean mixed = !"success".equals(this.path);
+        this.results = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            this.results.add(mixed && i % 2 == 0 ? Results.failure(FAILURE) : Results.success(SUCCESS));
+        }
+    }
+
+    @Benchmark
+    public Partition<List<String>, List<String>> partitioning() {
+        return this.results.stream().collect(ResultCollectors.partitioning());
+    }
+
+    @Benchmark
+    public List<List<String>> partitioningBaseline() {
+        final List<List<String>> partition = new ArrayList<>(2);
+        partition.add(this.results.stream().flatMap(Result::streamSuccess).collect(Collectors.toList()));
+        partition.add(this.results.stream().flatMap(Result::streamFailure).collect(Collectors.toList()));
+        return partition;
+    }
+}
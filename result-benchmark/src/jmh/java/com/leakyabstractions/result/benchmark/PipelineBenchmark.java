@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.ResultPipeline;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks a chain of {@code Result} operations against the same chain fused by {@code ResultPipeline}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class PipelineBenchmark extends AbstractBenchmark {
+
+    private static final Function<Result<String, String>, Result<Integer, String>> PIPELINE =
+            ResultPipeline.<String, String>fromResult()
+                    .mapSuccess(String::toLowerCase)
+                    .filter(s -> !s.isEmpty(), s -> FAILURE)
+                    .recover(FAILURE::equals, f -> ALTERNATIVE)
+                    .mapSuccess(String::length)
+                    .flatMapSuccess(PipelineBenchmark::validate)
+                    .build();
+
+    @Benchmark
+    public Result<Integer, String> chained() {
+        return this.result()
+                .mapSuccess(String::toLowerCase)
+                .filter(s -> !s.isEmpty(), s -> FAILURE)
+                .recover(FAILURE::equals, f -> ALTERNATIVE)
+                .mapSuccess(String::length)
+                .flatMapSuccess(PipelineBenchmark::validate);
+    }
+
+    @Benchmark
+    public Result<Integer, String> fused() {
+        return PIPELINE.apply(this.result());
+    }
+
+    private static Result<Integer, String> validate(Integer length) {
+        return length < 10 ? Results.success(length) : Results.failure(FAILURE);
+    }
+}
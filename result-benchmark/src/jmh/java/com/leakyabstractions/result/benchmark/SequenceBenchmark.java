@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.ResultSequences;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks {@code ResultSequences::sequence} against two passes with {@code streamSuccess} and
+ * {@code streamFailure}.
+ * <p>
+ * On the failure path, only the last of the results is failed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class SequenceBenchmark extends AbstractBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private List<Result<String, String>> results;
+
+    @Setup
+    public void setupResults() {
+        this.results = new ArrayList<>(SIZE);
+        for (int i = 1; i < SIZE; i++) {
+            this.results.add(Results.success(SUCCESS));
+        }
+        this.results.add("success".equals(this.path) ? Results.success(SUCCESS) : Results.failure(FAILURE));
+    }
+
+    @Benchmark
+    public Result<List<String>, String> sequence() {
+        return ResultSequences.sequence(this.results);
+    }
+
+    @Benchmark
+    public Result<List<String>, String> sequenceBaseline() {
+        final Optional<String> failure = this.results.stream().flatMap(Result::streamFailure).findFirst();
+        if (failure.isPresent()) {
+            return Results.failure(failure.get());
+        }
+        return Results.success(this.results.stream().flatMap(Result::streamSuccess).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.ResultStats;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Benchmarks {@code ResultStats::record} against synchronized counters, with many threads recording at the same time.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Threads(8)
+public class StatsBenchmark extends AbstractBenchmark {
+
+    private final ResultStats<String, String> stats = new ResultStats<>(failure -> failure);
+    private final SynchronizedStats baseline = new SynchronizedStats();
+
+    private Result<String, String> outcome;
+
+    @Setup
+    public void setupResults() {
+        this.outcome = "success".equals(this.path) ? Results.success(SUCCESS) : Results.failure(FAILURE);
+    }
+
+    @Benchmark
+    public void record() {
+        this.stats.record(this.outcome);
+    }
+
+    @Benchmark
+    public void recordBaseline() {
+        this.baseline.record(this.outcome);
+    }
+
+    /** Counts outcomes the usual way: with a lock. */
+    static final class SynchronizedStats {
+
+        private final Map<String, Long> failuresByKey = new HashMap<>();
+        private long successes;
+        private long failures;
+
+        synchronized void record(Result<String, String> result) {
+            if (result.hasSuccess()) {
+                this.successes++;
+            } else {
+                this.failures++;
+                this.failuresByKey.merge(result.getFailure().orElse(null), 1L, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.benchmark;
+
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks {@code streamSuccess} and {@code streamFailure}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class StreamBenchmark extends AbstractBenchmark {
+
+    @Benchmark
+    public long streamSuccess() {
+        return this.result().streamSuccess().count();
+    }
+
+    @Benchmark
+    public long streamSuccessBaseline() {
+        Stream<String> stream;
+        try {
+            stream = Stream.of(this.operation());
+        } catch (OperationFailedException e) {
+            stream = Stream.empty();
+        }
+        return stream.count();
+    }
+
+    @Benchmark
+    public long streamFailure() {
+        return this.result().streamFailure().count();
+    }
+
+    @Benchmark
+    public long streamFailureBaseline() {
+        Stream<String> stream;
+        try {
+            this.operation();
+            stream = Stream.empty();
+        } catch (OperationFailedException e) {
+            stream = Stream.of(e.getMessage());
+        }
+        return stream.count();
+    }
+}
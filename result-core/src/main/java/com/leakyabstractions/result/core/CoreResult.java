@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a {@link Result} created by {@link Results}: either a {@link Success} or a {@link Failure}.
+ * <p>
+ * This hierarchy is closed. On JDK 8 through 16, no other class can extend {@code CoreResult} because its constructor
+ * is not visible outside this package. On JDK 17 and later, the multi-release JAR provides a {@code sealed} version
+ * of this class that permits exactly those two final subclasses. Call sites that only see these two types stay
+ * bimorphic, so the JIT compiler can inline them.
+ * <p>
+ * Operations that transform a core result also return a core result, so chains of operations stay within this
+ * hierarchy. When {@code flatMap} functions return some other {@code Result} implementation, it is copied into a core
+ * result.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * CoreResult&lt;Integer, String&gt; r = Results.&lt;Integer, String&gt;success(3).mapSuccess(x -&gt; x * 2);
+ * String x = r instanceof Success
+ *         ? "Value: " + ((Success&lt;Integer, String&gt;) r).getValue()
+ *         : "Error: " + ((Failure&lt;Integer, String&gt;) r).getValue();</code>
+ * </pre>
+ * <p>
+ * On JDK 21 and later, where pattern matching for {@code switch} is a standard feature, a {@code switch} over a core
+ * result can be exhaustive without a {@code default} branch:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * String x = switch (r) {
+ *     case Success&lt;Integer, String&gt; s -&gt; "Value: " + s.getValue();
+ *     case Failure&lt;Integer, String&gt; f -&gt; "Error: " + f.getValue();
+ * };</code>
+ * </pre>
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+public abstract class CoreResult<S, F> implements Result<S, F> {
+
+    CoreResult() {
+        // Only Success and Failure may extend this class
+    }
+
+    @Override
+    public abstract CoreResult<S, F> ifSuccess(Consumer<? super S> action);
+
+    @Override
+    public abstract CoreResult<S, F> ifFailure(Consumer<? super F> action);
+
+    @Override
+    public abstract CoreResult<S, F> ifSuccessOrElse(
+            Consumer<? super S> successAction, Consumer<? super F> failureAction);
+
+    @Override
+    public abstract CoreResult<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper);
+
+    @Override
+    public abstract CoreResult<S, F> recover(
+            Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper);
+
+    @Override
+    public abstract <S2> CoreResult<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper);
+
+    @Override
+    public abstract <F2> CoreResult<S, F2> mapFailure(Function<? super F, ? extends F2> mapper);
+
+    @Override
+    public abstract <S2, F2> CoreResult<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper);
+
+    @Override
+    public abstract <S2> CoreResult<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper);
+
+    @Override
+    public abstract <F2> CoreResult<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper);
+
+    @Override
+    public abstract <S2, F2> CoreResult<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper);
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.DoubleResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a successful {@link DoubleResult}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+final class DoubleSuccess<F> implements DoubleResult<F> {
+
+    private final double value;
+
+    private DoubleSuccess(double value) {
+        this.value = value;
+    }
+
+    static <F> DoubleSuccess<F> of(double value) {
+        return new DoubleSuccess<>(value);
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return false;
+    }
+
+    @Override
+    public OptionalDouble getSuccess() {
+        return OptionalDouble.of(this.value);
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double orElse(double other) {
+        return this.value;
+    }
+
+    @Override
+    public double orElseMap(ToDoubleFunction<? super F> mapper) {
+        return this.value;
+    }
+
+    @Override
+    public <X extends Throwable> double orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        return this.value;
+    }
+
+    @Override
+    public <R> R fold(DoubleFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return successMapper.apply(this.value);
+    }
+
+    @Override
+    public DoubleStream streamSuccess() {
+        return DoubleStream.of(this.value);
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.empty();
+    }
+
+    @Override
+    public DoubleResult<F> ifSuccess(DoubleConsumer action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> ifFailure(Consumer<? super F> action) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> ifSuccessOrElse(DoubleConsumer successAction, Consumer<? super F> failureAction) {
+        successAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> filter(DoublePredicate isAcceptable, DoubleFunction<? extends F> mapper) {
+        if (isAcceptable.test(this.value)) {
+            return this;
+        }
+        return new DoubleFailure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public DoubleResult<F> recover(Predicate<? super F> isRecoverable, ToDoubleFunction<? super F> mapper) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> mapSuccess(DoubleUnaryOperator mapper) {
+        return of(mapper.applyAsDouble(this.value));
+    }
+
+    @Override
+    public <S> Result<S, F> mapToObj(DoubleFunction<? extends S> mapper) {
+        return new Success<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> DoubleResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public <F2> DoubleResult<F2> map(
+            DoubleUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return of(successMapper.applyAsDouble(this.value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DoubleResult<F> flatMapSuccess(DoubleFunction<? extends DoubleResult<? extends F>> mapper) {
+        return (DoubleResult<F>) requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    public <F2> DoubleResult<F2> flatMapFailure(Function<? super F, ? extends DoubleResult<? extends F2>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> DoubleResult<F2> flatMap(
+            DoubleFunction<? extends DoubleResult<? extends F2>> successMapper,
+            Function<? super F, ? extends DoubleResult<? extends F2>> failureMapper) {
+        return (DoubleResult<F2>) requireNonNull(successMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj
+                || obj instanceof DoubleSuccess && Double.compare(this.value, ((DoubleSuccess<?>) obj).value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleSuccess[" + this.value + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F2> DoubleResult<F2> cast() {
+        return (DoubleResult<F2>) this;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lightweight exception that signals a failed {@link Result}.
+ * <p>
+ * This exception holds the failure value of the {@code Result} that caused it. It is created without a stack trace and
+ * with suppression disabled, so it costs about as much as any other small object. Its message is computed only when
+ * requested.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;Integer, String&gt; r = getResult();
+ * int x = r.orElseThrow(FailureException::new);</code>
+ * </pre>
+ * <p>
+ * Subclasses can be used to tell different kinds of failures apart in {@code catch} blocks; they are stackless too.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result#orElseThrow(java.util.function.Function)
+ */
+public class FailureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object failure;
+
+    /**
+     * Creates a new exception holding the given failure value.
+     *
+     * @param failure the failure value
+     */
+    public FailureException(Object failure) {
+        this(null, failure);
+    }
+
+    /**
+     * Creates a new exception with the given message, holding the given failure value.
+     *
+     * @param message the detail message; if {@code null}, the string representation of {@code failure} will be used
+     * @param failure the failure value
+     */
+    public FailureException(String message, Object failure) {
+        super(message, null, false, false);
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the failure value held by this exception.
+     *
+     * @return the failure value; may be {@code null} if this exception was deserialized
+     */
+    public Object getFailure() {
+        return this.failure;
+    }
+
+    @Override
+    public String getMessage() {
+        final String message = super.getMessage();
+        return message != null ? message : String.valueOf(this.failure);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a failed {@link IntResult}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+final class IntFailure<F> implements IntResult<F> {
+
+    private final F value;
+
+    IntFailure(F value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return true;
+    }
+
+    @Override
+    public OptionalInt getSuccess() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.of(this.value);
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseMap(ToIntFunction<? super F> mapper) {
+        return mapper.applyAsInt(this.value);
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        throw exceptionMapper.apply(this.value);
+    }
+
+    @Override
+    public <R> R fold(IntFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return failureMapper.apply(this.value);
+    }
+
+    @Override
+    public IntStream streamSuccess() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.of(this.value);
+    }
+
+    @Override
+    public IntResult<F> ifSuccess(IntConsumer action) {
+        return this;
+    }
+
+    @Override
+    public IntResult<F> ifFailure(Consumer<? super F> action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> ifSuccessOrElse(IntConsumer successAction, Consumer<? super F> failureAction) {
+        failureAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> filter(IntPredicate isAcceptable, IntFunction<? extends F> mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<F> recover(Predicate<? super F> isRecoverable, ToIntFunction<? super F> mapper) {
+        if (isRecoverable.test(this.value)) {
+            return IntSuccess.of(mapper.applyAsInt(this.value));
+        }
+        return this;
+    }
+
+    @Override
+    public IntResult<F> mapSuccess(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <S> Result<S, F> mapToObj(IntFunction<? extends S> mapper) {
+        return new Failure<>(this.value);
+    }
+
+    @Override
+    public <F2> IntResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return new IntFailure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> IntResult<F2> map(IntUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return new IntFailure<>(requireNonNull(failureMapper.apply(this.value)));
+    }
+
+    @Override
+    public IntResult<F> flatMapSuccess(IntFunction<? extends IntResult<? extends F>> mapper) {
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> IntResult<F2> flatMapFailure(Function<? super F, ? extends IntResult<? extends F2>> mapper) {
+        return (IntResult<F2>) requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> IntResult<F2> flatMap(
+            IntFunction<? extends IntResult<? extends F2>> successMapper,
+            Function<? super F, ? extends IntResult<? extends F2>> failureMapper) {
+        return (IntResult<F2>) requireNonNull(failureMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof IntFailure && this.value.equals(((IntFailure<?>) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "IntFailure[" + this.value + "]";
+    }
+}
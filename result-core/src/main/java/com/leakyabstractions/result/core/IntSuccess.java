@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a successful {@link IntResult}.
+ * <p>
+ * Instances holding small values are cached, just like {@link Integer#valueOf(int)} does.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+final class IntSuccess<F> implements IntResult<F> {
+
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+    private static final IntSuccess<?>[] CACHE = new IntSuccess<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new IntSuccess<>(i + CACHE_LOW);
+        }
+    }
+
+    private final int value;
+
+    private IntSuccess(int value) {
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <F> IntSuccess<F> of(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return (IntSuccess<F>) CACHE[value - CACHE_LOW];
+        }
+        return new IntSuccess<>(value);
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return false;
+    }
+
+    @Override
+    public OptionalInt getSuccess() {
+        return OptionalInt.of(this.value);
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.empty();
+    }
+
+    @Override
+    public int orElse(int other) {
+        return this.value;
+    }
+
+    @Override
+    public int orElseMap(ToIntFunction<? super F> mapper) {
+        return this.value;
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        return this.value;
+    }
+
+    @Override
+    public <R> R fold(IntFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return successMapper.apply(this.value);
+    }
+
+    @Override
+    public IntStream streamSuccess() {
+        return IntStream.of(this.value);
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.empty();
+    }
+
+    @Override
+    public IntResult<F> ifSuccess(IntConsumer action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> ifFailure(Consumer<? super F> action) {
+        return this;
+    }
+
+    @Override
+    public IntResult<F> ifSuccessOrElse(IntConsumer successAction, Consumer<? super F> failureAction) {
+        successAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> filter(IntPredicate isAcceptable, IntFunction<? extends F> mapper) {
+        if (isAcceptable.test(this.value)) {
+            return this;
+        }
+        return new IntFailure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public IntResult<F> recover(Predicate<? super F> isRecoverable, ToIntFunction<? super F> mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<F> mapSuccess(IntUnaryOperator mapper) {
+        return of(mapper.applyAsInt(this.value));
+    }
+
+    @Override
+    public <S> Result<S, F> mapToObj(IntFunction<? extends S> mapper) {
+        return new Success<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> IntResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public <F2> IntResult<F2> map(IntUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return of(successMapper.applyAsInt(this.value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IntResult<F> flatMapSuccess(IntFunction<? extends IntResult<? extends F>> mapper) {
+        return (IntResult<F>) requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    public <F2> IntResult<F2> flatMapFailure(Function<? super F, ? extends IntResult<? extends F2>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> IntResult<F2> flatMap(
+            IntFunction<? extends IntResult<? extends F2>> successMapper,
+            Function<? super F, ? extends IntResult<? extends F2>> failureMapper) {
+        return (IntResult<F2>) requireNonNull(successMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof IntSuccess && this.value == ((IntSuccess<?>) obj).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "IntSuccess[" + this.value + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F2> IntResult<F2> cast() {
+        return (IntResult<F2>) this;
+    }
+}
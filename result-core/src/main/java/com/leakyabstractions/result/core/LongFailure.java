@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.LongResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a failed {@link LongResult}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+final class LongFailure<F> implements LongResult<F> {
+
+    private final F value;
+
+    LongFailure(F value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return true;
+    }
+
+    @Override
+    public OptionalLong getSuccess() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.of(this.value);
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseMap(ToLongFunction<? super F> mapper) {
+        return mapper.applyAsLong(this.value);
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        throw exceptionMapper.apply(this.value);
+    }
+
+    @Override
+    public <R> R fold(LongFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return failureMapper.apply(this.value);
+    }
+
+    @Override
+    public LongStream streamSuccess() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.of(this.value);
+    }
+
+    @Override
+    public LongResult<F> ifSuccess(LongConsumer action) {
+        return this;
+    }
+
+    @Override
+    public LongResult<F> ifFailure(Consumer<? super F> action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> ifSuccessOrElse(LongConsumer successAction, Consumer<? super F> failureAction) {
+        failureAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> filter(LongPredicate isAcceptable, LongFunction<? extends F> mapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult<F> recover(Predicate<? super F> isRecoverable, ToLongFunction<? super F> mapper) {
+        if (isRecoverable.test(this.value)) {
+            return LongSuccess.of(mapper.applyAsLong(this.value));
+        }
+        return this;
+    }
+
+    @Override
+    public LongResult<F> mapSuccess(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <S> Result<S, F> mapToObj(LongFunction<? extends S> mapper) {
+        return new Failure<>(this.value);
+    }
+
+    @Override
+    public <F2> LongResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return new LongFailure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> LongResult<F2> map(LongUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return new LongFailure<>(requireNonNull(failureMapper.apply(this.value)));
+    }
+
+    @Override
+    public LongResult<F> flatMapSuccess(LongFunction<? extends LongResult<? extends F>> mapper) {
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> LongResult<F2> flatMapFailure(Function<? super F, ? extends LongResult<? extends F2>> mapper) {
+        return (LongResult<F2>) requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> LongResult<F2> flatMap(
+            LongFunction<? extends LongResult<? extends F2>> successMapper,
+            Function<? super F, ? extends LongResult<? extends F2>> failureMapper) {
+        return (LongResult<F2>) requireNonNull(failureMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof LongFailure && this.value.equals(((LongFailure<?>) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LongFailure[" + this.value + "]";
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.LongResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a successful {@link LongResult}.
+ * <p>
+ * Instances holding small values are cached, just like {@link Long#valueOf(long)} does.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+final class LongSuccess<F> implements LongResult<F> {
+
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+    private static final LongSuccess<?>[] CACHE = new LongSuccess<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new LongSuccess<>(i + CACHE_LOW);
+        }
+    }
+
+    private final long value;
+
+    private LongSuccess(long value) {
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <F> LongSuccess<F> of(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return (LongSuccess<F>) CACHE[(int) value - CACHE_LOW];
+        }
+        return new LongSuccess<>(value);
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return false;
+    }
+
+    @Override
+    public OptionalLong getSuccess() {
+        return OptionalLong.of(this.value);
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.empty();
+    }
+
+    @Override
+    public long orElse(long other) {
+        return this.value;
+    }
+
+    @Override
+    public long orElseMap(ToLongFunction<? super F> mapper) {
+        return this.value;
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        return this.value;
+    }
+
+    @Override
+    public <R> R fold(LongFunction<? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return successMapper.apply(this.value);
+    }
+
+    @Override
+    public LongStream streamSuccess() {
+        return LongStream.of(this.value);
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.empty();
+    }
+
+    @Override
+    public LongResult<F> ifSuccess(LongConsumer action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> ifFailure(Consumer<? super F> action) {
+        return this;
+    }
+
+    @Override
+    public LongResult<F> ifSuccessOrElse(LongConsumer successAction, Consumer<? super F> failureAction) {
+        successAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> filter(LongPredicate isAcceptable, LongFunction<? extends F> mapper) {
+        if (isAcceptable.test(this.value)) {
+            return this;
+        }
+        return new LongFailure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public LongResult<F> recover(Predicate<? super F> isRecoverable, ToLongFunction<? super F> mapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult<F> mapSuccess(LongUnaryOperator mapper) {
+        return of(mapper.applyAsLong(this.value));
+    }
+
+    @Override
+    public <S> Result<S, F> mapToObj(LongFunction<? extends S> mapper) {
+        return new Success<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> LongResult<F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public <F2> LongResult<F2> map(LongUnaryOperator successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return of(successMapper.applyAsLong(this.value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public LongResult<F> flatMapSuccess(LongFunction<? extends LongResult<? extends F>> mapper) {
+        return (LongResult<F>) requireNonNull(mapper.apply(this.value));
+    }
+
+    @Override
+    public <F2> LongResult<F2> flatMapFailure(Function<? super F, ? extends LongResult<? extends F2>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F2> LongResult<F2> flatMap(
+            LongFunction<? extends LongResult<? extends F2>> successMapper,
+            Function<? super F, ? extends LongResult<? extends F2>> failureMapper) {
+        return (LongResult<F2>) requireNonNull(successMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof LongSuccess && this.value == ((LongSuccess<?>) obj).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "LongSuccess[" + this.value + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F2> LongResult<F2> cast() {
+        return (LongResult<F2>) this;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import java.util.Objects;
+
+/**
+ * Holds the outcome of partitioning results into successes and failures.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the collected success values
+ * @param <F> the type of the collected failure values
+ * @see ResultCollectors#partitioning()
+ */
+public final class Partition<S, F> {
+
+    private final S successes;
+    private final F failures;
+
+    Partition(S successes, F failures) {
+        this.successes = successes;
+        this.failures = failures;
+    }
+
+    /**
+     * Returns the collected success values.
+     *
+     * @return the collected success values
+     */
+    public S getSuccesses() {
+        return this.successes;
+    }
+
+    /**
+     * Returns the collected failure values.
+     *
+     * @return the collected failure values
+     */
+    public F getFailures() {
+        return this.failures;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Partition)) {
+            return false;
+        }
+        final Partition<?, ?> other = (Partition<?, ?>) obj;
+        return Objects.equals(this.successes, other.successes) && Objects.equals(this.failures, other.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(this.successes) + Objects.hashCode(this.failures);
+    }
+
+    @Override
+    public String toString() {
+        return "Partition[successes=" + this.successes + ", failures=" + this.failures + "]";
+    }
+}
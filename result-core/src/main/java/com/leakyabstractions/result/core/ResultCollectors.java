@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Creates {@link Collector collectors} of {@link Result} objects.
+ * <p>
+ * Partitioning collectors split a stream of results into successes and failures in a single pass.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Partition&lt;List&lt;Order&gt;, List&lt;String&gt;&gt; orders = requests.parallelStream()
+ *         .map(this::validate)
+ *         .collect(ResultCollectors.partitioning());</code>
+ * </pre>
+ * <p>
+ * These collectors are not concurrent. Parallel streams accumulate each chunk into its own container and then merge
+ * them with the combiners of the downstream collectors.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Partition
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Returns a collector that partitions results into a list of success values and a list of failure values.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @return a collector that partitions results into success and failure lists, in encounter order
+     */
+    public static <S, F> Collector<Result<? extends S, ? extends F>, ?, Partition<List<S>, List<F>>> partitioning() {
+        return partitioning(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that partitions results and passes success and failure values to the given downstream
+     * collectors.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param <A> the result type of the success downstream collector
+     * @param <B> the result type of the failure downstream collector
+     * @param successes the downstream collector of success values
+     * @param failures the downstream collector of failure values
+     * @return a collector that partitions results into the given downstream collectors
+     * @throws NullPointerException if {@code successes} or {@code failures} is {@code null}
+     */
+    public static <S, F, A, B> Collector<Result<? extends S, ? extends F>, ?, Partition<A, B>> partitioning(
+            Collector<? super S, ?, A> successes,
+            Collector<? super F, ?, B> failures) {
+        return partitioning(successes, failures, Partition::new);
+    }
+
+    /**
+     * Returns a collector that partitions results, passes success and failure values to the given downstream
+     * collectors, and then merges both outcomes with the given function.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param <A> the result type of the success downstream collector
+     * @param <B> the result type of the failure downstream collector
+     * @param <R> the type of the merged outcome
+     * @param successes the downstream collector of success values
+     * @param failures the downstream collector of failure values
+     * @param merger the function that merges the outcomes of both downstream collectors
+     * @return a collector that partitions results into the given downstream collectors and merges their outcomes
+     * @throws NullPointerException if {@code successes}, {@code failures} or {@code merger} is {@code null}
+     */
+    public static <S, F, A, B, R> Collector<Result<? extends S, ? extends F>, ?, R> partitioning(
+            Collector<? super S, ?, A> successes,
+            Collector<? super F, ?, B> failures,
+            BiFunction<? super A, ? super B, ? extends R> merger) {
+        return partitioningWith(requireNonNull(successes), requireNonNull(failures), requireNonNull(merger));
+    }
+
+    private static <S, F, X, Y, A, B, R> Collector<Result<? extends S, ? extends F>, ?, R> partitioningWith(
+            Collector<? super S, X, A> successes,
+            Collector<? super F, Y, B> failures,
+            BiFunction<? super A, ? super B, ? extends R> merger) {
+        final Supplier<X> successSupplier = successes.supplier();
+        final Supplier<Y> failureSupplier = failures.supplier();
+        final BiConsumer<X, ? super S> successAccumulator = successes.accumulator();
+        final BiConsumer<Y, ? super F> failureAccumulator = failures.accumulator();
+        final BinaryOperator<X> successCombiner = successes.combiner();
+        final BinaryOperator<Y> failureCombiner = failures.combiner();
+        final Function<X, A> successFinisher = successes.finisher();
+        final Function<Y, B> failureFinisher = failures.finisher();
+        final boolean unordered = successes.characteristics().contains(Collector.Characteristics.UNORDERED)
+                && failures.characteristics().contains(Collector.Characteristics.UNORDERED);
+        final BiConsumer<Container<X, Y>, Result<? extends S, ? extends F>> accumulator = (container, result) -> {
+            if (result instanceof Success) {
+                successAccumulator.accept(container.successes, ((Success<? extends S, ?>) result).getValue());
+            } else if (result instanceof Failure) {
+                failureAccumulator.accept(container.failures, ((Failure<?, ? extends F>) result).getValue());
+            } else if (result.hasSuccess()) {
+                successAccumulator.accept(container.successes, result.orElse(null));
+            } else {
+                failureAccumulator.accept(container.failures, result.getFailure().orElse(null));
+            }
+        };
+        final BinaryOperator<Container<X, Y>> combiner = (left, right) -> {
+            left.successes = successCombiner.apply(left.successes, right.successes);
+            left.failures = failureCombiner.apply(left.failures, right.failures);
+            return left;
+        };
+        final Function<Container<X, Y>, R> finisher = container -> merger.apply(
+                successFinisher.apply(container.successes), failureFinisher.apply(container.failures));
+        final Supplier<Container<X, Y>> supplier =
+                () -> new Container<>(successSupplier.get(), failureSupplier.get());
+        return unordered
+                ? Collector.of(supplier, accumulator, combiner, finisher, Collector.Characteristics.UNORDERED)
+                : Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    /** Mutable container of the intermediate accumulations of both downstream collectors. */
+    private static final class Container<X, Y> {
+
+        X successes;
+        Y failures;
+
+        Container(X successes, Y failures) {
+            this.successes = successes;
+            this.failures = failures;
+        }
+    }
+}
@@ -0,0 +1,1377 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Combines several results into one, collecting all their failures.
+ * <p>
+ * Unlike chains of {@code flatMapSuccess}, which stop at the first failure, these operations inspect every result.
+ * When all of them are successful, their success values are passed directly to a constructor function; otherwise, the
+ * failure values of all failed results are either accumulated into a list or merged with a given function.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;User, List&lt;String&gt;&gt; user = ResultCombiners.combine(
+ *         validateName(name), validateEmail(email), validateAge(age), User::new);</code>
+ * </pre>
+ * <p>
+ * No intermediate pairs or tuples are created. Successful combinations allocate nothing but the result they return.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ */
+public final class ResultCombiners {
+
+    private ResultCombiners() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Combines 2 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            BiFunction<? super T1, ? super T2, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2)));
+        }
+        return Results.failure(failures(r1, r2));
+    }
+
+    /**
+     * Combines 2 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            BiFunction<? super T1, ? super T2, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2)));
+        }
+        return Results.failure(merge(merger, r1, r2));
+    }
+
+    /**
+     * Combines 3 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3)));
+        }
+        return Results.failure(failures(r1, r2, r3));
+    }
+
+    /**
+     * Combines 3 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3));
+    }
+
+    /**
+     * Combines 4 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4));
+    }
+
+    /**
+     * Combines 4 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4));
+    }
+
+    /**
+     * Combines 5 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5));
+    }
+
+    /**
+     * Combines 5 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5));
+    }
+
+    /**
+     * Combines 6 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6,
+                    ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6));
+    }
+
+    /**
+     * Combines 6 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6,
+                    ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6));
+    }
+
+    /**
+     * Combines 7 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7,
+                    ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7));
+    }
+
+    /**
+     * Combines 7 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7,
+                    ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7));
+    }
+
+    /**
+     * Combines 8 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7, r8));
+    }
+
+    /**
+     * Combines 8 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7, r8));
+    }
+
+    /**
+     * Combines 9 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7, r8, r9));
+    }
+
+    /**
+     * Combines 9 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Function9<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7, r8, r9));
+    }
+
+    /**
+     * Combines 10 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10));
+    }
+
+    /**
+     * Combines 10 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Function10<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7, r8, r9, r10));
+    }
+
+    /**
+     * Combines 11 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <T11> the success type of the eleventh result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param r11 the eleventh result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Result<? extends T11, ? extends F> r11,
+            Function11<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? super T11, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()
+                && r11.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10), value(r11)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11));
+    }
+
+    /**
+     * Combines 11 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <T11> the success type of the eleventh result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param r11 the eleventh result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Result<? extends T11, ? extends F> r11,
+            Function11<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? super T11, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()
+                && r11.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10), value(r11)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11));
+    }
+
+    /**
+     * Combines 12 results into one, accumulating all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <T11> the success type of the eleventh result
+     * @param <T12> the success type of the twelfth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param r11 the eleventh result
+     * @param r12 the twelfth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the list of failure values of all the failed results, in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code constructor} returns
+     *     {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, F, R> Result<R, List<F>> combine(
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Result<? extends T11, ? extends F> r11,
+            Result<? extends T12, ? extends F> r12,
+            Function12<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? super T11, ? super T12, ? extends R> constructor) {
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()
+                && r11.hasSuccess() && r12.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10), value(r11), value(r12)));
+        }
+        return Results.failure(failures(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12));
+    }
+
+    /**
+     * Combines 12 results into one, merging all their failures.
+     *
+     * @param <T1> the success type of the first result
+     * @param <T2> the success type of the second result
+     * @param <T3> the success type of the third result
+     * @param <T4> the success type of the fourth result
+     * @param <T5> the success type of the fifth result
+     * @param <T6> the success type of the sixth result
+     * @param <T7> the success type of the seventh result
+     * @param <T8> the success type of the eighth result
+     * @param <T9> the success type of the ninth result
+     * @param <T10> the success type of the tenth result
+     * @param <T11> the success type of the eleventh result
+     * @param <T12> the success type of the twelfth result
+     * @param <F> the failure type of the results
+     * @param <R> the type of the combined value
+     * @param merger the function that merges two failure values into one
+     * @param r1 the first result
+     * @param r2 the second result
+     * @param r3 the third result
+     * @param r4 the fourth result
+     * @param r5 the fifth result
+     * @param r6 the sixth result
+     * @param r7 the seventh result
+     * @param r8 the eighth result
+     * @param r9 the ninth result
+     * @param r10 the tenth result
+     * @param r11 the eleventh result
+     * @param r12 the twelfth result
+     * @param constructor the function that creates the combined value from all the success values
+     * @return a successful result holding the combined value if all the results are successful; otherwise a failed
+     *     result holding the failure values of all the failed results, merged in parameter order
+     * @throws NullPointerException if any of the arguments is {@code null}; or if {@code merger} or
+     *     {@code constructor} returns {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, F, R> Result<R, F> combine(
+            BinaryOperator<F> merger,
+            Result<? extends T1, ? extends F> r1,
+            Result<? extends T2, ? extends F> r2,
+            Result<? extends T3, ? extends F> r3,
+            Result<? extends T4, ? extends F> r4,
+            Result<? extends T5, ? extends F> r5,
+            Result<? extends T6, ? extends F> r6,
+            Result<? extends T7, ? extends F> r7,
+            Result<? extends T8, ? extends F> r8,
+            Result<? extends T9, ? extends F> r9,
+            Result<? extends T10, ? extends F> r10,
+            Result<? extends T11, ? extends F> r11,
+            Result<? extends T12, ? extends F> r12,
+            Function12<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8,
+                    ? super T9, ? super T10, ? super T11, ? super T12, ? extends R> constructor) {
+        requireNonNull(merger);
+        requireNonNull(constructor);
+        if (r1.hasSuccess() && r2.hasSuccess() && r3.hasSuccess() && r4.hasSuccess() && r5.hasSuccess()
+                && r6.hasSuccess() && r7.hasSuccess() && r8.hasSuccess() && r9.hasSuccess() && r10.hasSuccess()
+                && r11.hasSuccess() && r12.hasSuccess()) {
+            return Results.success(constructor.apply(value(r1), value(r2), value(r3), value(r4), value(r5), value(r6),
+                    value(r7), value(r8), value(r9), value(r10), value(r11), value(r12)));
+        }
+        return Results.failure(merge(merger, r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, r12));
+    }
+
+    private static <T> T value(Result<? extends T, ?> result) {
+        if (result instanceof Success) {
+            return ((Success<? extends T, ?>) result).getValue();
+        }
+        return result.orElse(null);
+    }
+
+    private static <F> F failure(Result<?, ? extends F> result) {
+        if (result instanceof Failure) {
+            return ((Failure<?, ? extends F>) result).getValue();
+        }
+        return result.getFailure().orElse(null);
+    }
+
+    @SafeVarargs
+    private static <F> List<F> failures(Result<?, ? extends F>... results) {
+        final List<F> failures = new ArrayList<>(results.length);
+        for (final Result<?, ? extends F> result : results) {
+            if (!result.hasSuccess()) {
+                failures.add(failure(result));
+            }
+        }
+        return failures;
+    }
+
+    @SafeVarargs
+    private static <F> F merge(BinaryOperator<F> merger, Result<?, ? extends F>... results) {
+        F merged = null;
+        for (final Result<?, ? extends F> result : results) {
+            if (!result.hasSuccess()) {
+                final F failure = failure(result);
+                merged = merged == null ? failure : requireNonNull(merger.apply(merged, failure));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Represents a function that accepts 3 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function3<T1, T2, T3, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3);
+    }
+
+    /**
+     * Represents a function that accepts 4 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function4<T1, T2, T3, T4, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+    }
+
+    /**
+     * Represents a function that accepts 5 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function5<T1, T2, T3, T4, T5, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+    }
+
+    /**
+     * Represents a function that accepts 6 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function6<T1, T2, T3, T4, T5, T6, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
+    }
+
+    /**
+     * Represents a function that accepts 7 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
+    }
+
+    /**
+     * Represents a function that accepts 8 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+    }
+
+    /**
+     * Represents a function that accepts 9 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <T9> the type of the ninth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @param t9 the ninth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9);
+    }
+
+    /**
+     * Represents a function that accepts 10 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <T9> the type of the ninth argument
+     * @param <T10> the type of the tenth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @param t9 the ninth argument
+         * @param t10 the tenth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10);
+    }
+
+    /**
+     * Represents a function that accepts 11 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <T9> the type of the ninth argument
+     * @param <T10> the type of the tenth argument
+     * @param <T11> the type of the eleventh argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @param t9 the ninth argument
+         * @param t10 the tenth argument
+         * @param t11 the eleventh argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11);
+    }
+
+    /**
+     * Represents a function that accepts 12 arguments and produces a result.
+     *
+     * @param <T1> the type of the first argument
+     * @param <T2> the type of the second argument
+     * @param <T3> the type of the third argument
+     * @param <T4> the type of the fourth argument
+     * @param <T5> the type of the fifth argument
+     * @param <T6> the type of the sixth argument
+     * @param <T7> the type of the seventh argument
+     * @param <T8> the type of the eighth argument
+     * @param <T9> the type of the ninth argument
+     * @param <T10> the type of the tenth argument
+     * @param <T11> the type of the eleventh argument
+     * @param <T12> the type of the twelfth argument
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    public interface Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param t1 the first argument
+         * @param t2 the second argument
+         * @param t3 the third argument
+         * @param t4 the fourth argument
+         * @param t5 the fifth argument
+         * @param t6 the sixth argument
+         * @param t7 the seventh argument
+         * @param t8 the eighth argument
+         * @param t9 the ninth argument
+         * @param t10 the tenth argument
+         * @param t11 the eleventh argument
+         * @param t12 the twelfth argument
+         * @return the function result
+         */
+        R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9, T10 t10, T11 t11, T12 t12);
+    }
+}
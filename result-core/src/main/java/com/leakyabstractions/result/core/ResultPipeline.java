@@ -0,0 +1,377 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Builds a chain of {@link Result} operations that can be compiled once and applied many times.
+ * <p>
+ * Each operation mirrors the {@code Result} method of the same name. When the pipeline is {@linkplain #build() built},
+ * all operations are fused into a single {@link Function}. Applying that function passes success and failure values
+ * directly from one operation to the next, so the only {@code Result} it creates is the final one.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Function&lt;String, Result&lt;Order, String&gt;&gt; process = ResultPipeline.&lt;String, String&gt;fromSuccess()
+ *     .mapSuccess(String::trim)
+ *     .filter(s -&gt; !s.isEmpty(), s -&gt; "Empty")
+ *     .flatMapSuccess(this::findOrder)
+ *     .build();
+ * Result&lt;Order, String&gt; x = process.apply(input);</code>
+ * </pre>
+ * <p>
+ * Pipelines are immutable: every operation returns a new pipeline, so partially built pipelines can be safely shared
+ * and extended in different ways. Compiled functions are thread-safe as long as the given functions are.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <I> the type of the input
+ * @param <S> the success type of the final {@code Result}
+ * @param <F> the failure type of the final {@code Result}
+ */
+public final class ResultPipeline<I, S, F> {
+
+    private final boolean fromResult;
+    private final ResultPipeline<I, ?, ?> previous;
+    private final UnaryOperator<Step> stage;
+
+    private ResultPipeline(boolean fromResult, ResultPipeline<I, ?, ?> previous, UnaryOperator<Step> stage) {
+        this.fromResult = fromResult;
+        this.previous = previous;
+        this.stage = stage;
+    }
+
+    /**
+     * Creates an empty pipeline whose input is a success value.
+     *
+     * @param <S> the type of the input success value
+     * @param <F> the type of the failure value
+     * @return an empty pipeline that treats its input as a success value
+     * @see #fromResult()
+     */
+    public static <S, F> ResultPipeline<S, S, F> fromSuccess() {
+        return new ResultPipeline<>(false, null, null);
+    }
+
+    /**
+     * Creates an empty pipeline whose input is a {@code Result}.
+     *
+     * @param <S> the success type of the input {@code Result}
+     * @param <F> the failure type of the input {@code Result}
+     * @return an empty pipeline that takes a {@code Result} as its input
+     * @see #fromSuccess()
+     */
+    public static <S, F> ResultPipeline<Result<S, F>, S, F> fromResult() {
+        return new ResultPipeline<>(true, null, null);
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#ifSuccess(Consumer)}.
+     *
+     * @param action the {@link Consumer} to be applied to the success value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public ResultPipeline<I, S, F> ifSuccess(Consumer<? super S> action) {
+        requireNonNull(action, "action");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                action.accept(cast(value));
+                return next.success(value);
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#ifFailure(Consumer)}.
+     *
+     * @param action the {@link Consumer} to be applied to the failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public ResultPipeline<I, S, F> ifFailure(Consumer<? super F> action) {
+        requireNonNull(action, "action");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> failure(Object value) {
+                action.accept(cast(value));
+                return next.failure(value);
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#ifSuccessOrElse(Consumer, Consumer)}.
+     *
+     * @param successAction the {@link Consumer} to be applied to the success value
+     * @param failureAction the {@link Consumer} to be applied to the failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code successAction} or {@code failureAction} is {@code null}
+     */
+    public ResultPipeline<I, S, F> ifSuccessOrElse(
+            Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        return this.ifSuccess(successAction).ifFailure(failureAction);
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#filter(Predicate, Function)}.
+     *
+     * @param isAcceptable the {@link Predicate} to apply to the success value
+     * @param mapper the mapping {@link Function} that produces the failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code isAcceptable} or {@code mapper} is {@code null}
+     */
+    public ResultPipeline<I, S, F> filter(
+            Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        requireNonNull(isAcceptable, "isAcceptable");
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                final S success = cast(value);
+                if (isAcceptable.test(success)) {
+                    return next.success(value);
+                }
+                return next.failure(requireNonNull(mapper.apply(success)));
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#recover(Predicate, Function)}.
+     *
+     * @param isRecoverable the {@link Predicate} to apply to the failure value
+     * @param mapper the mapping {@link Function} that produces the success value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code isRecoverable} or {@code mapper} is {@code null}
+     */
+    public ResultPipeline<I, S, F> recover(
+            Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        requireNonNull(isRecoverable, "isRecoverable");
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> failure(Object value) {
+                final F failure = cast(value);
+                if (isRecoverable.test(failure)) {
+                    return next.success(requireNonNull(mapper.apply(failure)));
+                }
+                return next.failure(value);
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#mapSuccess(Function)}.
+     *
+     * @param <S2> the type of the value returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces the new success value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public <S2> ResultPipeline<I, S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                return next.success(requireNonNull(mapper.apply(cast(value))));
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#mapFailure(Function)}.
+     *
+     * @param <F2> the type of the value returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces the new failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public <F2> ResultPipeline<I, S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> failure(Object value) {
+                return next.failure(requireNonNull(mapper.apply(cast(value))));
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#map(Function, Function)}.
+     *
+     * @param <S2> the type of the value returned by {@code successMapper}
+     * @param <F2> the type of the value returned by {@code failureMapper}
+     * @param successMapper the mapping {@link Function} that produces the new success value
+     * @param failureMapper the mapping {@link Function} that produces the new failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code successMapper} or {@code failureMapper} is {@code null}
+     */
+    public <S2, F2> ResultPipeline<I, S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return this.<S2>mapSuccess(successMapper).mapFailure(failureMapper);
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#flatMapSuccess(Function)}.
+     *
+     * @param <S2> the success type of the {@code Result} returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces a new {@code Result}
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public <S2> ResultPipeline<I, S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                return next.resume(requireNonNull(mapper.apply(cast(value))));
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#flatMapFailure(Function)}.
+     *
+     * @param <F2> the failure type of the {@code Result} returned by {@code mapper}
+     * @param mapper the mapping {@link Function} that produces a new {@code Result}
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public <F2> ResultPipeline<I, S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> failure(Object value) {
+                return next.resume(requireNonNull(mapper.apply(cast(value))));
+            }
+        });
+    }
+
+    /**
+     * Adds an operation equivalent to {@link Result#flatMap(Function, Function)}.
+     *
+     * @param <S2> the success type of the {@code Result} returned by the mappers
+     * @param <F2> the failure type of the {@code Result} returned by the mappers
+     * @param successMapper the mapping {@link Function} that produces a new {@code Result} from a success value
+     * @param failureMapper the mapping {@link Function} that produces a new {@code Result} from a failure value
+     * @return a new pipeline with the operation added
+     * @throws NullPointerException if {@code successMapper} or {@code failureMapper} is {@code null}
+     */
+    public <S2, F2> ResultPipeline<I, S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        requireNonNull(successMapper, "successMapper");
+        requireNonNull(failureMapper, "failureMapper");
+        return this.then(next -> new Step(next) {
+            @Override
+            Result<?, ?> success(Object value) {
+                return next.resume(requireNonNull(successMapper.apply(cast(value))));
+            }
+
+            @Override
+            Result<?, ?> failure(Object value) {
+                return next.resume(requireNonNull(failureMapper.apply(cast(value))));
+            }
+        });
+    }
+
+    /**
+     * Compiles this pipeline into a single function.
+     *
+     * @return a {@link Function} that applies all the operations in this pipeline to its input, creating only the
+     *     final {@code Result}
+     */
+    @SuppressWarnings("unchecked")
+    public Function<I, Result<S, F>> build() {
+        Step first = Step.TERMINAL;
+        ResultPipeline<I, ?, ?> pipeline = this;
+        while (pipeline.stage != null) {
+            first = pipeline.stage.apply(first);
+            pipeline = pipeline.previous;
+        }
+        final Step head = first;
+        if (this.fromResult) {
+            return input -> (Result<S, F>) head.resume((Result<?, ?>) requireNonNull(input, "input"));
+        }
+        return input -> (Result<S, F>) head.success(requireNonNull(input, "input"));
+    }
+
+    private <S2, F2> ResultPipeline<I, S2, F2> then(UnaryOperator<Step> stage) {
+        return new ResultPipeline<>(this.fromResult, this, stage);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * A single fused operation that passes success and failure values on to the next one.
+     * <p>
+     * By default, values are forwarded unchanged. The last step creates the final {@code Result}.
+     */
+    abstract static class Step {
+
+        static final Step TERMINAL = new Step(null) {
+            @Override
+            Result<?, ?> success(Object value) {
+                return new Success<>(value);
+            }
+
+            @Override
+            Result<?, ?> failure(Object value) {
+                return new Failure<>(value);
+            }
+
+            @Override
+            Result<?, ?> resume(Result<?, ?> result) {
+                return result;
+            }
+        };
+
+        final Step next;
+        private final Function<Object, Result<?, ?>> onSuccess = this::success;
+        private final Function<Object, Result<?, ?>> onFailure = this::failure;
+
+        Step(Step next) {
+            this.next = next;
+        }
+
+        Result<?, ?> success(Object value) {
+            return this.next.success(value);
+        }
+
+        Result<?, ?> failure(Object value) {
+            return this.next.failure(value);
+        }
+
+        Result<?, ?> resume(Result<?, ?> result) {
+            return result.fold(this.onSuccess, this.onFailure);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Turns many results into a single result holding a list.
+ * <p>
+ * {@code sequence} turns a group of results into a successful result holding all their success values; or into the
+ * first failed result. {@code traverse} does the same, but maps each element to a result first.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;List&lt;User&gt;, String&gt; users = ResultSequences.traverse(ids, repository::findUser);</code>
+ * </pre>
+ * <p>
+ * All operations make a single pass and stop at the first failure, without evaluating the rest of the elements. When
+ * the number of elements is known in advance, the list of success values is created with that exact capacity. Lists
+ * that support {@link RandomAccess fast random access} are traversed by index, without creating an iterator.
+ * <p>
+ * The list held by a successful result is a new, modifiable list owned by the caller. A failed result returned by
+ * these operations is the same failed instance that stopped the traversal, when it was created by {@link Results}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ */
+public final class ResultSequences {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private ResultSequences() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Turns the given results into a single result holding the list of their success values.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param results the results to sequence
+     * @return a successful result holding the success values in iteration order if all the results are successful;
+     *     otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code results} or any of its elements is {@code null}
+     */
+    public static <S, F> Result<List<S>, F> sequence(Iterable<? extends Result<? extends S, ? extends F>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Turns the given results into a single result holding the list of their success values.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param results the results to sequence
+     * @return a successful result holding the success values in array order if all the results are successful;
+     *     otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code results} or any of its elements is {@code null}
+     */
+    public static <S, F> Result<List<S>, F> sequence(Result<? extends S, ? extends F>[] results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Turns the remaining results of the given iterator into a single result holding the list of their success values.
+     * <p>
+     * The iterator is not consumed beyond the first failed result.
+     *
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param results the iterator of the results to sequence
+     * @return a successful result holding the success values in iteration order if all the results are successful;
+     *     otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code results} or any of its elements is {@code null}
+     */
+    public static <S, F> Result<List<S>, F> sequence(Iterator<? extends Result<? extends S, ? extends F>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Maps the given elements to results and turns them into a single result holding the list of their success values.
+     *
+     * @param <T> the type of the elements
+     * @param <S> the success type of the mapped results
+     * @param <F> the failure type of the mapped results
+     * @param elements the elements to traverse
+     * @param mapper the mapping function that produces a result for each element
+     * @return a successful result holding the success values in iteration order if all the mapped results are
+     *     successful; otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code elements} or {@code mapper} is {@code null}; or if {@code mapper} returns
+     *     {@code null}
+     */
+    public static <T, S, F> Result<List<S>, F> traverse(
+            Iterable<? extends T> elements,
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        requireNonNull(mapper);
+        if (elements instanceof List && elements instanceof RandomAccess) {
+            final List<? extends T> list = (List<? extends T>) elements;
+            final int size = list.size();
+            final ArrayList<S> successes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final Result<? extends S, ? extends F> result = requireNonNull(mapper.apply(list.get(i)));
+                if (!add(successes, result)) {
+                    return failure(result);
+                }
+            }
+            return Results.success(successes);
+        }
+        final int capacity = elements instanceof Collection ? ((Collection<?>) elements).size() : DEFAULT_CAPACITY;
+        return traverse(elements.iterator(), mapper, new ArrayList<>(capacity));
+    }
+
+    /**
+     * Maps the given elements to results and turns them into a single result holding the list of their success values.
+     *
+     * @param <T> the type of the elements
+     * @param <S> the success type of the mapped results
+     * @param <F> the failure type of the mapped results
+     * @param elements the elements to traverse
+     * @param mapper the mapping function that produces a result for each element
+     * @return a successful result holding the success values in array order if all the mapped results are successful;
+     *     otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code elements} or {@code mapper} is {@code null}; or if {@code mapper} returns
+     *     {@code null}
+     */
+    public static <T, S, F> Result<List<S>, F> traverse(
+            T[] elements,
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        requireNonNull(mapper);
+        final ArrayList<S> successes = new ArrayList<>(elements.length);
+        for (final T element : elements) {
+            final Result<? extends S, ? extends F> result = requireNonNull(mapper.apply(element));
+            if (!add(successes, result)) {
+                return failure(result);
+            }
+        }
+        return Results.success(successes);
+    }
+
+    /**
+     * Maps the remaining elements of the given iterator to results and turns them into a single result holding the list
+     * of their success values.
+     * <p>
+     * The iterator is not consumed beyond the element that was mapped to the first failed result.
+     *
+     * @param <T> the type of the elements
+     * @param <S> the success type of the mapped results
+     * @param <F> the failure type of the mapped results
+     * @param elements the iterator of the elements to traverse
+     * @param mapper the mapping function that produces a result for each element
+     * @return a successful result holding the success values in iteration order if all the mapped results are
+     *     successful; otherwise a failed result holding the failure value of the first failed result
+     * @throws NullPointerException if {@code elements} or {@code mapper} is {@code null}; or if {@code mapper} returns
+     *     {@code null}
+     */
+    public static <T, S, F> Result<List<S>, F> traverse(
+            Iterator<? extends T> elements,
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper) {
+        return traverse(requireNonNull(elements), requireNonNull(mapper), new ArrayList<>(DEFAULT_CAPACITY));
+    }
+
+    private static <T, S, F> Result<List<S>, F> traverse(
+            Iterator<? extends T> elements,
+            Function<? super T, ? extends Result<? extends S, ? extends F>> mapper,
+            ArrayList<S> successes) {
+        while (elements.hasNext()) {
+            final Result<? extends S, ? extends F> result = requireNonNull(mapper.apply(elements.next()));
+            if (!add(successes, result)) {
+                return failure(result);
+            }
+        }
+        return Results.success(successes);
+    }
+
+    private static <S> boolean add(List<S> successes, Result<? extends S, ?> result) {
+        if (result instanceof Success) {
+            successes.add(((Success<? extends S, ?>) result).getValue());
+            return true;
+        }
+        if (result instanceof Failure || !result.hasSuccess()) {
+            return false;
+        }
+        successes.add(result.orElse(null));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, F> Result<S, F> failure(Result<?, ? extends F> result) {
+        if (result instanceof Failure) {
+            return (Result<S, F>) result;
+        }
+        return Results.failure(result.getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Counts successful and failed results recorded concurrently by many threads.
+ * <p>
+ * Failures are also counted by key, as determined by a classifier function. Counters are striped ({@link LongAdder}),
+ * so threads recording outcomes at the same time do not contend for a single memory location.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultStats&lt;Error, Error.Kind&gt; stats = new ResultStats&lt;&gt;(Error::getKind);
+ * Result&lt;Order, Error&gt; order = placeOrder(cart).ifSuccessOrElse(stats.onSuccess(), stats.onFailure());</code>
+ * </pre>
+ * <p>
+ * Recording an outcome does not allocate any objects, except the first time a failure key is found. For this to hold,
+ * the classifier itself must not allocate; for example, it could return an enum constant.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure values
+ * @param <K> the type of the failure keys
+ * @see Result#ifSuccessOrElse(Consumer, Consumer)
+ */
+public final class ResultStats<F, K> {
+
+    private final Function<? super F, ? extends K> classifier;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentHashMap<K, LongAdder> failuresByKey = new ConcurrentHashMap<>();
+    private final Function<K, LongAdder> newCounter = key -> new LongAdder();
+    private final Consumer<Object> onSuccess = success -> this.successes.increment();
+    private final Consumer<F> onFailure = this::recordFailure;
+
+    /**
+     * Creates new statistics.
+     *
+     * @param classifier the function that maps failure values to keys; if it returns {@code null}, the failure is
+     *     counted but not classified
+     * @throws NullPointerException if {@code classifier} is {@code null}
+     */
+    public ResultStats(Function<? super F, ? extends K> classifier) {
+        this.classifier = requireNonNull(classifier);
+    }
+
+    /**
+     * Records the outcome of the given result.
+     *
+     * @param result the result to record
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public void record(Result<?, ? extends F> result) {
+        result.ifSuccessOrElse(this.onSuccess, this.onFailure);
+    }
+
+    /**
+     * Returns an action that records a success.
+     * <p>
+     * The same instance is returned every time.
+     *
+     * @return an action that records a success
+     */
+    public Consumer<Object> onSuccess() {
+        return this.onSuccess;
+    }
+
+    /**
+     * Returns an action that records a failure.
+     * <p>
+     * The same instance is returned every time.
+     *
+     * @return an action that records a failure
+     */
+    public Consumer<F> onFailure() {
+        return this.onFailure;
+    }
+
+    /**
+     * Returns the number of successes recorded so far.
+     *
+     * @return the number of successes recorded so far
+     */
+    public long successes() {
+        return this.successes.sum();
+    }
+
+    /**
+     * Returns the number of failures recorded so far.
+     *
+     * @return the number of failures recorded so far
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Returns the number of failures recorded so far for the given key.
+     *
+     * @param key the key of the failures to count
+     * @return the number of failures recorded so far for {@code key}
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public long failures(K key) {
+        final LongAdder counter = this.failuresByKey.get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns a snapshot of these statistics.
+     * <p>
+     * Counters are read one by one, without stopping concurrent updates. So, a snapshot taken while outcomes are being
+     * recorded may not correspond to any single point in time.
+     *
+     * @return a snapshot of these statistics
+     */
+    public Snapshot<K> snapshot() {
+        final Map<K, Long> byKey = new HashMap<>();
+        this.failuresByKey.forEach((key, counter) -> byKey.put(key, counter.sum()));
+        return new Snapshot<>(this.successes.sum(), this.failures.sum(), unmodifiableMap(byKey));
+    }
+
+    @Override
+    public String toString() {
+        return "ResultStats[successes=" + this.successes() + ", failures=" + this.failures() + "]";
+    }
+
+    private void recordFailure(F failure) {
+        this.failures.increment();
+        final K key = this.classifier.apply(failure);
+        if (key != null) {
+            LongAdder counter = this.failuresByKey.get(key);
+            if (counter == null) {
+                counter = this.failuresByKey.computeIfAbsent(key, this.newCounter);
+            }
+            counter.increment();
+        }
+    }
+
+    /**
+     * Holds the values of some {@link ResultStats} at a given time.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     * @param <K> the type of the failure keys
+     */
+    public static final class Snapshot<K> {
+
+        private final long successes;
+        private final long failures;
+        private final Map<K, Long> failuresByKey;
+
+        Snapshot(long successes, long failures, Map<K, Long> failuresByKey) {
+            this.successes = successes;
+            this.failures = failures;
+            this.failuresByKey = failuresByKey;
+        }
+
+        /**
+         * Returns the number of successes.
+         *
+         * @return the number of successes
+         */
+        public long getSuccesses() {
+            return this.successes;
+        }
+
+        /**
+         * Returns the number of failures.
+         *
+         * @return the number of failures
+         */
+        public long getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * Returns the number of failures for each key.
+         *
+         * @return an unmodifiable map of failure keys to the number of failures
+         */
+        public Map<K, Long> getFailuresByKey() {
+            return this.failuresByKey;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot[successes=" + this.successes + ", failures=" + this.failures + ", failuresByKey="
+                    + this.failuresByKey + "]";
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Extracts success and failure values from streams of {@link Result} objects.
+ * <p>
+ * {@link Result#streamSuccess()} and {@link Result#streamFailure()} create a whole stream pipeline for at most one
+ * element. That is wasteful when flat-mapping large streams of results. These operations extract the same values
+ * without creating any intermediate streams.
+ * <p>
+ * On JDK 16 and later, emitters plug into {@code Stream::mapMulti}:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Stream&lt;User&gt; users = results.stream().mapMulti(ResultStreams.emitSuccess());</code>
+ * </pre>
+ * <p>
+ * On any JDK, whole streams can be flat-mapped at once:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Stream&lt;User&gt; users = ResultStreams.streamSuccess(results.stream());</code>
+ * </pre>
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ */
+public final class ResultStreams {
+
+    private static final int CHARACTERISTICS =
+            Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.CONCURRENT;
+
+    private ResultStreams() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Returns an emitter that passes the success value of a result, if any, to a consumer.
+     * <p>
+     * The returned emitter can be passed to {@code Stream::mapMulti}.
+     *
+     * @param <S> the success type of the results
+     * @return an emitter of success values
+     */
+    public static <S> BiConsumer<Result<? extends S, ?>, Consumer<S>> emitSuccess() {
+        return ResultStreams::emitSuccess;
+    }
+
+    /**
+     * Returns an emitter that passes the failure value of a result, if any, to a consumer.
+     * <p>
+     * The returned emitter can be passed to {@code Stream::mapMulti}.
+     *
+     * @param <F> the failure type of the results
+     * @return an emitter of failure values
+     */
+    public static <F> BiConsumer<Result<?, ? extends F>, Consumer<F>> emitFailure() {
+        return ResultStreams::emitFailure;
+    }
+
+    /**
+     * Returns a stream of the success values of the given stream of results.
+     * <p>
+     * This is equivalent to {@code results.flatMap(Result::streamSuccess)}, but it does not create one stream per
+     * result. The returned stream is parallel if the given stream is parallel, and closing it closes the given stream.
+     *
+     * @param <S> the success type of the results
+     * @param results the stream of results
+     * @return a stream of the success values of {@code results}
+     * @throws NullPointerException if {@code results} is {@code null}
+     */
+    public static <S> Stream<S> streamSuccess(Stream<? extends Result<? extends S, ?>> results) {
+        return StreamSupport.stream(new SuccessSpliterator<S>(results.spliterator()), results.isParallel())
+                .onClose(results::close);
+    }
+
+    /**
+     * Returns a stream of the failure values of the given stream of results.
+     * <p>
+     * This is equivalent to {@code results.flatMap(Result::streamFailure)}, but it does not create one stream per
+     * result. The returned stream is parallel if the given stream is parallel, and closing it closes the given stream.
+     *
+     * @param <F> the failure type of the results
+     * @param results the stream of results
+     * @return a stream of the failure values of {@code results}
+     * @throws NullPointerException if {@code results} is {@code null}
+     */
+    public static <F> Stream<F> streamFailure(Stream<? extends Result<?, ? extends F>> results) {
+        return StreamSupport.stream(new FailureSpliterator<F>(results.spliterator()), results.isParallel())
+                .onClose(results::close);
+    }
+
+    private static <S> boolean emitSuccess(Result<? extends S, ?> result, Consumer<? super S> sink) {
+        if (result instanceof Success) {
+            sink.accept(((Success<? extends S, ?>) result).getValue());
+            return true;
+        }
+        if (result instanceof Failure || !requireNonNull(result).hasSuccess()) {
+            return false;
+        }
+        sink.accept(result.orElse(null));
+        return true;
+    }
+
+    private static <F> boolean emitFailure(Result<?, ? extends F> result, Consumer<? super F> sink) {
+        if (result instanceof Failure) {
+            sink.accept(((Failure<?, ? extends F>) result).getValue());
+            return true;
+        }
+        if (result instanceof Success || !requireNonNull(result).hasFailure()) {
+            return false;
+        }
+        sink.accept(result.getFailure().orElse(null));
+        return true;
+    }
+
+    /** Traverses the success values of a spliterator of results. */
+    private static final class SuccessSpliterator<S> implements Spliterator<S> {
+
+        private final Spliterator<? extends Result<? extends S, ?>> source;
+        private boolean emitted;
+
+        SuccessSpliterator(Spliterator<? extends Result<? extends S, ?>> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super S> action) {
+            this.emitted = false;
+            while (!this.emitted) {
+                if (!this.source.tryAdvance(result -> this.emitted = emitSuccess(result, action))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super S> action) {
+            this.source.forEachRemaining(result -> emitSuccess(result, action));
+        }
+
+        @Override
+        public Spliterator<S> trySplit() {
+            final Spliterator<? extends Result<? extends S, ?>> prefix = this.source.trySplit();
+            return prefix == null ? null : new SuccessSpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics() & CHARACTERISTICS | Spliterator.NONNULL;
+        }
+    }
+
+    /** Traverses the failure values of a spliterator of results. */
+    private static final class FailureSpliterator<F> implements Spliterator<F> {
+
+        private final Spliterator<? extends Result<?, ? extends F>> source;
+        private boolean emitted;
+
+        FailureSpliterator(Spliterator<? extends Result<?, ? extends F>> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super F> action) {
+            this.emitted = false;
+            while (!this.emitted) {
+                if (!this.source.tryAdvance(result -> this.emitted = emitFailure(result, action))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super F> action) {
+            this.source.forEachRemaining(result -> emitFailure(result, action));
+        }
+
+        @Override
+        public Spliterator<F> trySplit() {
+            final Spliterator<? extends Result<?, ? extends F>> prefix = this.source.trySplit();
+            return prefix == null ? null : new FailureSpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics() & CHARACTERISTICS | Spliterator.NONNULL;
+        }
+    }
+}
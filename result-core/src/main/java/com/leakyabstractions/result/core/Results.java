@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.leakyabstractions.result.api.DoubleResult;
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.api.LongResult;
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Creates instances of {@link Result}.
+ * <p>
+ * Successful results are backed by the final class {@link Success} and failed results by the final class
+ * {@link Failure}. Both hold a single field. Their transforming operations allocate nothing other than the
+ * {@code Result} they return, and operations that do not apply to a {@code Result}, such as {@code recover} on a
+ * successful one, return the same instance.
+ * <p>
+ * Primitive specializations {@link IntResult}, {@link LongResult} and {@link DoubleResult} hold their success values
+ * without boxing them.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Result
+ */
+public final class Results {
+
+    private Results() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Creates a new successful {@code Result} holding the given value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Integer, String&gt; r = Results.success(3);</code>
+     * </pre>
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param success the success value
+     * @return a new successful {@code Result} holding {@code success}
+     * @throws NullPointerException if {@code success} is {@code null}
+     * @see #failure(Object)
+     */
+    public static <S, F> CoreResult<S, F> success(S success) {
+        return new Success<>(requireNonNull(success, "success"));
+    }
+
+    /**
+     * Creates a new failed {@code Result} holding the given value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * Result&lt;Integer, String&gt; r = Results.failure("E");</code>
+     * </pre>
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param failure the failure value
+     * @return a new failed {@code Result} holding {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @see #success(Object)
+     */
+    public static <S, F> CoreResult<S, F> failure(F failure) {
+        return new Failure<>(requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Creates a successful {@code IntResult} holding the given {@code int} value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * IntResult&lt;String&gt; r = Results.intSuccess(3);</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param success the success value
+     * @return a successful {@code IntResult} holding {@code success}; instances holding small values may be cached
+     * @see #intFailure(Object)
+     */
+    public static <F> IntResult<F> intSuccess(int success) {
+        return IntSuccess.of(success);
+    }
+
+    /**
+     * Creates a new failed {@code IntResult} holding the given value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * IntResult&lt;String&gt; r = Results.intFailure("E");</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param failure the failure value
+     * @return a new failed {@code IntResult} holding {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @see #intSuccess(int)
+     */
+    public static <F> IntResult<F> intFailure(F failure) {
+        return new IntFailure<>(requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Creates a successful {@code LongResult} holding the given {@code long} value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * LongResult&lt;String&gt; r = Results.longSuccess(3L);</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param success the success value
+     * @return a successful {@code LongResult} holding {@code success}; instances holding small values may be cached
+     * @see #longFailure(Object)
+     */
+    public static <F> LongResult<F> longSuccess(long success) {
+        return LongSuccess.of(success);
+    }
+
+    /**
+     * Creates a new failed {@code LongResult} holding the given value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * LongResult&lt;String&gt; r = Results.longFailure("E");</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param failure the failure value
+     * @return a new failed {@code LongResult} holding {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @see #longSuccess(long)
+     */
+    public static <F> LongResult<F> longFailure(F failure) {
+        return new LongFailure<>(requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Creates a new successful {@code DoubleResult} holding the given {@code double} value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * DoubleResult&lt;String&gt; r = Results.doubleSuccess(3.5);</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param success the success value
+     * @return a successful {@code DoubleResult} holding {@code success}
+     * @see #doubleFailure(Object)
+     */
+    public static <F> DoubleResult<F> doubleSuccess(double success) {
+        return DoubleSuccess.of(success);
+    }
+
+    /**
+     * Creates a new failed {@code DoubleResult} holding the given value.
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * DoubleResult&lt;String&gt; r = Results.doubleFailure("E");</code>
+     * </pre>
+     *
+     * @param <F> the type of the failure value
+     * @param failure the failure value
+     * @return a new failed {@code DoubleResult} holding {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @see #doubleSuccess(double)
+     */
+    public static <F> DoubleResult<F> doubleFailure(F failure) {
+        return new DoubleFailure<>(requireNonNull(failure, "failure"));
+    }
+
+    /**
+     * Returns the given result as a {@code CoreResult}.
+     * <p>
+     * Core results are returned as they are; results of other implementations are copied.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param result the result to adapt
+     * @return {@code result} if it is a {@code CoreResult}; otherwise, a new core result with the same outcome
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <S, F> CoreResult<S, F> adapt(Result<? extends S, ? extends F> result) {
+        if (requireNonNull(result) instanceof CoreResult) {
+            return (CoreResult<S, F>) result;
+        }
+        if (result.hasSuccess()) {
+            return new Success<>(result.orElse(null));
+        }
+        return new Failure<>(result.getFailure().orElse(null));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a successful {@link Result}.
+ * <p>
+ * Operations that only apply to failed results return this same instance, cast to the new failure type. This is safe
+ * because a successful result never holds a failure value.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+public final class Success<S, F> extends CoreResult<S, F> {
+
+    private final S value;
+
+    Success(S value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the success value of this {@code Result}.
+     *
+     * @return the success value
+     */
+    public S getValue() {
+        return this.value;
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return false;
+    }
+
+    @Override
+    public Optional<S> getSuccess() {
+        return Optional.of(this.value);
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return Optional.empty();
+    }
+
+    @Override
+    public S orElse(S other) {
+        return this.value;
+    }
+
+    @Override
+    public S orElseMap(Function<? super F, ? extends S> mapper) {
+        return this.value;
+    }
+
+    @Override
+    public <X extends Throwable> S orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        return this.value;
+    }
+
+    @Override
+    public <R> R fold(Function<? super S, ? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return successMapper.apply(this.value);
+    }
+
+    @Override
+    public int foldToInt(ToIntFunction<? super S> successMapper, ToIntFunction<? super F> failureMapper) {
+        return successMapper.applyAsInt(this.value);
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super S> successMapper, ToLongFunction<? super F> failureMapper) {
+        return successMapper.applyAsLong(this.value);
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super S> successMapper, ToDoubleFunction<? super F> failureMapper) {
+        return successMapper.applyAsDouble(this.value);
+    }
+
+    @Override
+    public Stream<S> streamSuccess() {
+        return Stream.of(this.value);
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return Stream.empty();
+    }
+
+    @Override
+    public CoreResult<S, F> ifSuccess(Consumer<? super S> action) {
+        action.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public CoreResult<S, F> ifFailure(Consumer<? super F> action) {
+        return this;
+    }
+
+    @Override
+    public CoreResult<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        successAction.accept(this.value);
+        return this;
+    }
+
+    @Override
+    public CoreResult<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        if (isAcceptable.test(this.value)) {
+            return this;
+        }
+        return new Failure<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public CoreResult<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        return this;
+    }
+
+    @Override
+    public <S2> CoreResult<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        return new Success<>(requireNonNull(mapper.apply(this.value)));
+    }
+
+    @Override
+    public <F2> CoreResult<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public <S2, F2> CoreResult<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return new Success<>(requireNonNull(successMapper.apply(this.value)));
+    }
+
+    @Override
+    public <S2> CoreResult<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        return Results.adapt(mapper.apply(this.value));
+    }
+
+    @Override
+    public <F2> CoreResult<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        return this.cast();
+    }
+
+    @Override
+    public <S2, F2> CoreResult<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        return Results.adapt(successMapper.apply(this.value));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof Success && this.value.equals(((Success<?, ?>) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Success[" + this.value + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F2> CoreResult<S, F2> cast() {
+        return (CoreResult<S, F2>) this;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Reference implementation of the Result API
+ * <p>
+ * <img src="https://dev.leakyabstractions.com/result-api/result.svg" alt="Result Library">
+ * <h2>Result Library Core</h2>
+ * <p>
+ * This package provides {@link com.leakyabstractions.result.core.Results}, the factory for successful and failed
+ * {@link com.leakyabstractions.result.api.Result} objects.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;Server, String&gt; connect() {
+ *     return isOnline() ? Results.success(server) : Results.failure("Offline");
+ * }</code>
+ * </pre>
+ * <p>
+ * Operations that transform a result, such as {@code mapSuccess}, {@code flatMap} or {@code recover}, allocate at most
+ * the one {@code Result} object they return, and none at all when they do not apply to it: for example, mapping the
+ * success value of a failed result returns that same instance. This keeps long chains of operations cheap and makes
+ * call sites easy to inline for the JIT compiler. Operations that return an {@code Optional} or a {@code Stream} do
+ * allocate it.
+ * <p>
+ * Results are instances of {@link com.leakyabstractions.result.core.CoreResult}, a closed hierarchy with exactly two
+ * final subclasses: {@link com.leakyabstractions.result.core.Success} and
+ * {@link com.leakyabstractions.result.core.Failure}. This library is packaged as a multi-release JAR; on JDK 17 and
+ * later, {@code CoreResult} is {@code sealed}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.api Introduction
+ * @see com.leakyabstractions.result.core.Results
+ */
+
+package com.leakyabstractions.result.core;
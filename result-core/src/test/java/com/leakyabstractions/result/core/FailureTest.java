@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Failure}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class FailureTest {
+
+    private final CoreResult<String, Integer> failure = Results.failure(42);
+
+    @Test
+    void should_hold_failure_value() {
+        // Then
+        assertFalse(this.failure.hasSuccess());
+        assertTrue(this.failure.hasFailure());
+        assertEquals(Optional.empty(), this.failure.getSuccess());
+        assertEquals(Optional.of(42), this.failure.getFailure());
+        assertEquals("other", this.failure.orElse("other"));
+        assertEquals("42", this.failure.orElseMap(String::valueOf));
+        assertEquals(0, this.failure.streamSuccess().count());
+        assertEquals(Collections.singletonList(42), this.failure.streamFailure().collect(toList()));
+    }
+
+    @Test
+    void should_reject_null_value() {
+        assertThrows(NullPointerException.class, () -> Results.failure(null));
+    }
+
+    @Test
+    void should_throw_mapped_exception() {
+        // When
+        final IllegalStateException error = assertThrows(
+                IllegalStateException.class,
+                () -> this.failure.orElseThrow(value -> new IllegalStateException("Failure " + value)));
+        // Then
+        assertEquals("Failure 42", error.getMessage());
+    }
+
+    @Test
+    void should_fold_failure_value() {
+        // Then
+        assertEquals("42!", this.failure.fold(s -> "success", f -> f + "!"));
+        assertEquals(42, this.failure.foldToInt(String::length, f -> f));
+        assertEquals(42L, this.failure.foldToLong(String::length, f -> f));
+        assertEquals(42.0, this.failure.foldToDouble(String::length, f -> f));
+    }
+
+    @Test
+    void should_return_same_instance_from_operations_that_do_not_apply() {
+        // Then
+        assertSame(this.failure, this.failure.ifSuccess(success -> {
+            throw new AssertionError();
+        }));
+        assertSame(this.failure, this.failure.filter(success -> false, success -> 0));
+        assertSame(this.failure, this.failure.mapSuccess(String::length));
+        assertSame(this.failure, this.failure.flatMapSuccess(success -> Results.success(0)));
+        assertSame(this.failure, this.failure.recover(value -> false, value -> "recovered"));
+    }
+
+    @Test
+    void should_perform_failure_actions() {
+        // Given
+        final AtomicReference<Integer> performed = new AtomicReference<>();
+        // When
+        final Result<String, Integer> result = this.failure.ifSuccessOrElse(success -> {
+            throw new AssertionError();
+        }, performed::set);
+        // Then
+        assertSame(this.failure, result);
+        assertEquals(42, performed.get());
+    }
+
+    @Test
+    void should_transform_failure_value() {
+        // Then
+        assertEquals(Results.failure("42"), this.failure.mapFailure(String::valueOf));
+        assertEquals(Results.failure("42"), this.failure.map(String::length, String::valueOf));
+        assertEquals(Results.success("42"), this.failure.recover(value -> true, String::valueOf));
+        assertEquals(Results.success("ok"), this.failure.flatMapFailure(value -> Results.success("ok")));
+        assertEquals(Results.failure(43), this.failure.flatMap(Results::success, value -> Results.failure(value + 1)));
+    }
+
+    @Test
+    void should_reject_null_mapped_values() {
+        assertThrows(NullPointerException.class, () -> this.failure.mapFailure(value -> null));
+        assertThrows(NullPointerException.class, () -> this.failure.recover(value -> true, value -> null));
+        assertThrows(NullPointerException.class, () -> this.failure.flatMapFailure(value -> null));
+    }
+
+    @Test
+    void should_be_equal_to_failure_with_equal_value() {
+        // Then
+        assertEquals(Results.failure(42), this.failure);
+        assertEquals(Results.failure(42).hashCode(), this.failure.hashCode());
+        assertNotEquals(Results.success(42), this.failure);
+        assertNotEquals(Results.failure(0), this.failure);
+        assertEquals("Failure[42]", this.failure.toString());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCollectors}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultCollectorsTest {
+
+    @Test
+    void should_partition_results_in_encounter_order() {
+        // Given
+        final Stream<Result<Integer, String>> results = Stream.of(
+                Results.success(1), Results.failure("a"), Results.success(2), Results.failure("b"));
+        // When
+        final Partition<List<Integer>, List<String>> partition = results.collect(ResultCollectors.partitioning());
+        // Then
+        assertEquals(asList(1, 2), partition.getSuccesses());
+        assertEquals(asList("a", "b"), partition.getFailures());
+    }
+
+    @Test
+    void should_partition_empty_stream() {
+        // When
+        final Partition<List<Integer>, List<String>> partition = Stream.<Result<Integer, String>>empty()
+                .collect(ResultCollectors.partitioning());
+        // Then
+        assertEquals(Collections.emptyList(), partition.getSuccesses());
+        assertEquals(Collections.emptyList(), partition.getFailures());
+    }
+
+    @Test
+    void should_apply_downstream_collectors() {
+        // Given
+        final Stream<Result<Integer, String>> results = Stream.of(
+                Results.success(1), Results.failure("a"), Results.success(2), Results.failure("b"));
+        // When
+        final Partition<Long, String> partition = results.collect(
+                ResultCollectors.partitioning(counting(), joining(",")));
+        // Then
+        assertEquals(2L, partition.getSuccesses());
+        assertEquals("a,b", partition.getFailures());
+    }
+
+    @Test
+    void should_merge_downstream_results() {
+        // Given
+        final Stream<Result<Integer, String>> results = Stream.of(
+                Results.success(1), Results.failure("a"), Results.success(2));
+        // When
+        final String summary = results.collect(ResultCollectors.partitioning(
+                counting(), counting(), (successes, failures) -> successes + " OK, " + failures + " KO"));
+        // Then
+        assertEquals("2 OK, 1 KO", summary);
+    }
+
+    @Test
+    void should_keep_encounter_order_in_parallel_streams() {
+        // When
+        final Partition<List<Integer>, List<Integer>> partition = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> i % 3 == 0 ? Results.<Integer, Integer>failure(i) : Results.<Integer, Integer>success(i))
+                .collect(ResultCollectors.partitioning());
+        // Then
+        assertEquals(
+                IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().collect(toList()),
+                partition.getSuccesses());
+        assertEquals(
+                IntStream.range(0, 10_000).filter(i -> i % 3 == 0).boxed().collect(toList()),
+                partition.getFailures());
+    }
+
+    @Test
+    void should_be_unordered_only_if_both_downstream_collectors_are() {
+        // Given
+        final Collector<Result<? extends Integer, ? extends String>, ?, Partition<Set<Integer>, Set<String>>> sets =
+                ResultCollectors.partitioning(toSet(), toSet());
+        final Collector<Result<? extends Integer, ? extends String>, ?, Partition<Set<Integer>, List<String>>> mixed =
+                ResultCollectors.partitioning(toSet(), toList());
+        // Then
+        assertTrue(sets.characteristics().contains(Collector.Characteristics.UNORDERED));
+        assertFalse(mixed.characteristics().contains(Collector.Characteristics.UNORDERED));
+        assertFalse(sets.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH));
+    }
+
+    @Test
+    void should_compare_partitions_by_value() {
+        // Given
+        final Partition<Set<Integer>, Set<String>> partition = Stream.of(
+                Results.<Integer, String>success(1), Results.<Integer, String>failure("a"))
+                .collect(ResultCollectors.partitioning(toSet(), toSet()));
+        // Then
+        assertEquals(new Partition<>(new HashSet<>(asList(1)), new HashSet<>(asList("a"))), partition);
+        assertEquals(new Partition<>(new HashSet<>(asList(1)), new HashSet<>(asList("a"))).hashCode(),
+                partition.hashCode());
+        assertEquals("Partition[successes=[1], failures=[a]]", partition.toString());
+    }
+
+    @Test
+    void should_reject_null_downstream_collectors() {
+        assertThrows(NullPointerException.class, () -> ResultCollectors.partitioning(null, toList()));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.partitioning(toList(), null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.partitioning(toList(), toList(), null));
+    }
+}
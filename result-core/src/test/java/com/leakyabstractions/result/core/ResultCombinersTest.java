@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCombiners}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultCombinersTest {
+
+    private static Result<Integer, String> ok(int value) {
+        return Results.success(value);
+    }
+
+    private static Result<Integer, String> ko(String value) {
+        return Results.failure(value);
+    }
+
+    @Test
+    void should_combine_two_successes() {
+        // When
+        final Result<String, List<String>> result = ResultCombiners.combine(
+                Results.success("a"), ok(1), (s, i) -> s + i);
+        // Then
+        assertEquals(Results.success("a1"), result);
+    }
+
+    @Test
+    void should_accumulate_failures_in_parameter_order() {
+        // When
+        final Result<Integer, List<String>> result = ResultCombiners.combine(
+                ko("first"), ok(1), ko("third"), (a, b, c) -> a + b + c);
+        // Then
+        assertEquals(Results.failure(asList("first", "third")), result);
+    }
+
+    @Test
+    void should_merge_failures_in_parameter_order() {
+        // Given
+        final List<String> merged = new ArrayList<>();
+        // When
+        final Result<Integer, String> result = ResultCombiners.combine((x, y) -> {
+            merged.add(x + "+" + y);
+            return x + y;
+        }, ok(1), ko("b"), ko("c"), ko("d"), (a, b, c, d) -> a + b + c + d);
+        // Then
+        assertEquals(Results.failure("bcd"), result);
+        assertEquals(asList("b+c", "bc+d"), merged);
+    }
+
+    @Test
+    void should_not_merge_single_failure() {
+        // When
+        final Result<Integer, String> result = ResultCombiners.combine((x, y) -> {
+            throw new AssertionError();
+        }, ok(1), ko("b"), Integer::sum);
+        // Then
+        assertEquals(Results.failure("b"), result);
+    }
+
+    @Test
+    void should_not_construct_value_when_any_result_failed() {
+        // When
+        final Result<Integer, List<String>> result = ResultCombiners.combine(ok(1), ok(2), ko("c"), (a, b, c) -> {
+            throw new AssertionError();
+        });
+        // Then
+        assertEquals(Results.failure(Collections.singletonList("c")), result);
+    }
+
+    @Test
+    void should_combine_eight_results() {
+        // When
+        final Result<Integer, List<String>> success = ResultCombiners.combine(
+                ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        final Result<Integer, List<String>> failure = ResultCombiners.combine(
+                ko("1"), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ko("8"),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        // Then
+        assertEquals(Results.success(36), success);
+        assertEquals(Results.failure(asList("1", "8")), failure);
+    }
+
+    @Test
+    void should_combine_twelve_results() {
+        // When
+        final Result<List<Integer>, List<String>> success = ResultCombiners.combine(
+                ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8), ok(9), ok(10), ok(11), ok(12),
+                (a, b, c, d, e, f, g, h, i, j, k, l) -> asList(a, b, c, d, e, f, g, h, i, j, k, l));
+        final Result<List<Integer>, List<String>> failure = ResultCombiners.combine(
+                ok(1), ko("2"), ok(3), ok(4), ko("5"), ok(6), ok(7), ok(8), ok(9), ok(10), ok(11), ko("12"),
+                (a, b, c, d, e, f, g, h, i, j, k, l) -> asList(a, b, c, d, e, f, g, h, i, j, k, l));
+        final Result<List<Integer>, String> merged = ResultCombiners.combine(String::concat,
+                ko("a"), ko("b"), ko("c"), ko("d"), ko("e"), ko("f"), ko("g"), ko("h"), ko("i"), ko("j"), ko("k"),
+                ko("l"), (a, b, c, d, e, f, g, h, i, j, k, l) -> asList(a, b, c, d, e, f, g, h, i, j, k, l));
+        // Then
+        assertEquals(Results.success(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12)), success);
+        assertEquals(Results.failure(asList("2", "5", "12")), failure);
+        assertEquals(Results.failure("abcdefghijkl"), merged);
+    }
+
+    @Test
+    void should_reject_null_arguments() {
+        assertThrows(NullPointerException.class, () -> ResultCombiners.combine(ok(1), ok(2), null));
+        assertThrows(NullPointerException.class, () -> ResultCombiners.combine(null, ok(1), ko("b"), Integer::sum));
+        assertThrows(NullPointerException.class, () -> ResultCombiners.combine(ok(1), ok(2), (a, b) -> null));
+        assertThrows(NullPointerException.class,
+                () -> ResultCombiners.combine((x, y) -> null, ko("a"), ko("b"), Integer::sum));
+    }
+}
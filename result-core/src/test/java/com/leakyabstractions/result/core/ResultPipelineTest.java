@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultPipeline}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultPipelineTest {
+
+    @Test
+    void should_apply_operations_in_order() {
+        // Given
+        final List<String> steps = new ArrayList<>();
+        final Function<String, Result<Integer, String>> pipeline = ResultPipeline.<String, String>fromSuccess()
+                .ifSuccess(s -> steps.add("first " + s))
+                .mapSuccess(String::trim)
+                .ifSuccess(s -> steps.add("second " + s))
+                .mapSuccess(String::length)
+                .ifSuccess(s -> steps.add("third " + s))
+                .build();
+        // When
+        final Result<Integer, String> result = pipeline.apply(" OK ");
+        // Then
+        assertEquals(Results.success(2), result);
+        assertEquals(asList("first  OK ", "second OK", "third 2"), steps);
+    }
+
+    @Test
+    void should_skip_success_operations_after_failure() {
+        // Given
+        final List<String> steps = new ArrayList<>();
+        final Function<String, Result<Integer, String>> pipeline = ResultPipeline.<String, String>fromSuccess()
+                .filter(s -> !s.isEmpty(), s -> "Empty")
+                .ifSuccess(s -> steps.add("success " + s))
+                .ifFailure(f -> steps.add("failure " + f))
+                .mapSuccess(String::length)
+                .mapFailure(f -> f + "!")
+                .build();
+        // When
+        final Result<Integer, String> result = pipeline.apply("");
+        // Then
+        assertEquals(Results.failure("Empty!"), result);
+        assertEquals(asList("failure Empty"), steps);
+    }
+
+    @Test
+    void should_recover_and_resume_success_operations() {
+        // Given
+        final Function<Result<String, Integer>, Result<Integer, Integer>> pipeline = ResultPipeline
+                .<String, Integer>fromResult()
+                .recover(f -> f > 0, String::valueOf)
+                .mapSuccess(String::length)
+                .build();
+        // Then
+        assertEquals(Results.success(3), pipeline.apply(Results.failure(123)));
+        assertEquals(Results.failure(-1), pipeline.apply(Results.failure(-1)));
+        assertEquals(Results.success(2), pipeline.apply(Results.success("OK")));
+    }
+
+    @Test
+    void should_resume_from_flat_mapped_results() {
+        // Given
+        final Function<String, Result<Integer, String>> pipeline = ResultPipeline.<String, String>fromSuccess()
+                .flatMapSuccess(s -> s.isEmpty() ? Results.<String, String>failure("Empty") : Results.success(s))
+                .flatMap(s -> Results.success(s.length()), f -> Results.failure(f.toUpperCase()))
+                .flatMapFailure(f -> Results.failure(f + "!"))
+                .build();
+        // Then
+        assertEquals(Results.success(2), pipeline.apply("OK"));
+        assertEquals(Results.failure("EMPTY!"), pipeline.apply(""));
+    }
+
+    @Test
+    void should_return_last_flat_mapped_result_as_is() {
+        // Given
+        final Result<Integer, String> expected = Results.success(1);
+        final Function<String, Result<Integer, String>> pipeline = ResultPipeline.<String, String>fromSuccess()
+                .flatMapSuccess(s -> expected)
+                .build();
+        // Then
+        assertSame(expected, pipeline.apply("OK"));
+    }
+
+    @Test
+    void should_behave_like_result_operations() {
+        // Given
+        final Function<Result<String, String>, Result<Integer, String>> pipeline = ResultPipeline
+                .<String, String>fromResult()
+                .filter(s -> s.length() < 4, s -> "Too long")
+                .recover("Recoverable"::equals, f -> "Recovered")
+                .map(String::length, String::toUpperCase)
+                .build();
+        for (Result<String, String> input : asList(
+                Results.<String, String>success("OK"),
+                Results.<String, String>success("Too long"),
+                Results.<String, String>failure("Recoverable"),
+                Results.<String, String>failure("Unrecoverable"))) {
+            // When
+            final Result<Integer, String> expected = input
+                    .filter(s -> s.length() < 4, s -> "Too long")
+                    .recover("Recoverable"::equals, f -> "Recovered")
+                    .map(String::length, String::toUpperCase);
+            // Then
+            assertEquals(expected, pipeline.apply(input));
+        }
+    }
+
+    @Test
+    void should_share_partially_built_pipelines() {
+        // Given
+        final ResultPipeline<String, String, String> trimmed = ResultPipeline.<String, String>fromSuccess()
+                .mapSuccess(String::trim);
+        // When
+        final Function<String, Result<Integer, String>> length = trimmed.mapSuccess(String::length).build();
+        final Function<String, Result<String, String>> upper = trimmed.mapSuccess(String::toUpperCase).build();
+        // Then
+        assertEquals(Results.success(2), length.apply(" ok "));
+        assertEquals(Results.success("OK"), upper.apply(" ok "));
+        assertEquals(Results.success("ok"), trimmed.build().apply(" ok "));
+    }
+
+    @Test
+    void should_wrap_input_of_empty_pipeline() {
+        // Then
+        assertEquals(Results.success("OK"), ResultPipeline.<String, Integer>fromSuccess().build().apply("OK"));
+    }
+
+    @Test
+    void should_reject_null_arguments() {
+        // Given
+        final Function<String, Result<String, String>> pipeline = ResultPipeline.<String, String>fromSuccess()
+                .mapSuccess(s -> (String) null)
+                .build();
+        // Then
+        assertThrows(NullPointerException.class, () -> pipeline.apply("OK"));
+        assertThrows(NullPointerException.class, () -> ResultPipeline.fromSuccess().build().apply(null));
+        assertThrows(NullPointerException.class, () -> ResultPipeline.fromSuccess().mapSuccess(null));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultSequences}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultSequencesTest {
+
+    private static final Function<String, Result<Integer, String>> PARSE = s -> s.chars().allMatch(Character::isDigit)
+            ? Results.success(Integer.valueOf(s))
+            : Results.failure("Not a number: " + s);
+
+    @Test
+    void should_sequence_successes_in_order() {
+        // Given
+        final List<Result<Integer, String>> results = asList(
+                Results.success(1), Results.success(2), Results.success(3));
+        // Then
+        assertEquals(Results.success(asList(1, 2, 3)), ResultSequences.sequence(results));
+        assertEquals(Results.success(asList(1, 2, 3)), ResultSequences.sequence(new LinkedList<>(results)));
+        assertEquals(Results.success(asList(1, 2, 3)), ResultSequences.sequence(results.iterator()));
+        assertEquals(Results.success(asList(1, 2, 3)), ResultSequences.sequence(toArray(results)));
+    }
+
+    @Test
+    void should_return_first_failed_instance() {
+        // Given
+        final Result<Integer, String> first = Results.failure("first");
+        final List<Result<Integer, String>> results = asList(
+                Results.success(1), first, Results.failure("second"));
+        // Then
+        assertSame(first, ResultSequences.sequence(results));
+        assertSame(first, ResultSequences.sequence(new LinkedList<>(results)));
+        assertSame(first, ResultSequences.sequence(results.iterator()));
+        assertSame(first, ResultSequences.sequence(toArray(results)));
+    }
+
+    @Test
+    void should_return_success_holding_empty_list() {
+        // Then
+        assertEquals(Results.success(Collections.emptyList()), ResultSequences.sequence(Collections.emptyList()));
+        assertEquals(Results.success(Collections.emptyList()), ResultSequences.traverse(new String[0], PARSE));
+    }
+
+    @Test
+    void should_traverse_elements_in_order() {
+        // Given
+        final List<String> elements = asList("1", "22", "333");
+        // Then
+        assertEquals(Results.success(asList(1, 22, 333)), ResultSequences.traverse(elements, PARSE));
+        assertEquals(Results.success(asList(1, 22, 333)),
+                ResultSequences.traverse(new LinkedHashSet<>(elements), PARSE));
+        assertEquals(Results.success(asList(1, 22, 333)), ResultSequences.traverse(elements.iterator(), PARSE));
+        assertEquals(Results.success(asList(1, 22, 333)),
+                ResultSequences.traverse(elements.toArray(new String[0]), PARSE));
+    }
+
+    @Test
+    void should_stop_traversing_list_at_first_failure() {
+        // Given
+        final List<String> mapped = new ArrayList<>();
+        final Function<String, Result<Integer, String>> mapper = s -> {
+            mapped.add(s);
+            return PARSE.apply(s);
+        };
+        // When
+        final Result<List<Integer>, String> result = ResultSequences.traverse(asList("1", "x", "2", "y"), mapper);
+        // Then
+        assertEquals(Results.failure("Not a number: x"), result);
+        assertEquals(asList("1", "x"), mapped);
+    }
+
+    @Test
+    void should_stop_traversing_array_at_first_failure() {
+        // Given
+        final List<String> mapped = new ArrayList<>();
+        final Function<String, Result<Integer, String>> mapper = s -> {
+            mapped.add(s);
+            return PARSE.apply(s);
+        };
+        // When
+        final Result<List<Integer>, String> result = ResultSequences.traverse(new String[] {"x", "1", "y"}, mapper);
+        // Then
+        assertEquals(Results.failure("Not a number: x"), result);
+        assertEquals(asList("x"), mapped);
+    }
+
+    @Test
+    void should_not_consume_iterator_beyond_first_failure() {
+        // Given
+        final Iterator<String> elements = new LinkedList<>(asList("1", "x", "2", "y")).iterator();
+        // When
+        final Result<List<Integer>, String> result = ResultSequences.traverse(elements, PARSE);
+        // Then
+        assertEquals(Results.failure("Not a number: x"), result);
+        assertEquals("2", elements.next());
+    }
+
+    @Test
+    void should_return_modifiable_list() {
+        // Given
+        final List<Integer> successes = ResultSequences.traverse(asList("1", "2"), PARSE).orElse(null);
+        // When
+        successes.add(3);
+        // Then
+        assertEquals(asList(1, 2, 3), successes);
+    }
+
+    @Test
+    void should_reject_null_results() {
+        // Then
+        assertThrows(NullPointerException.class, () -> ResultSequences.traverse(asList("1"), s -> null));
+        assertThrows(NullPointerException.class, () -> ResultSequences.traverse(asList("1"), null));
+        assertThrows(NullPointerException.class,
+                () -> ResultSequences.sequence((Iterator<Result<Integer, String>>) null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result<Integer, String>[] toArray(List<Result<Integer, String>> results) {
+        return (Result<Integer, String>[]) results.toArray(new Result<?, ?>[0]);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultStreams}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultStreamsTest {
+
+    private static Stream<Result<Integer, String>> results(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % 4 == 0 ? Results.<Integer, String>failure("f" + i) : Results.success(i));
+    }
+
+    @Test
+    void should_emit_success_values_only() {
+        // Given
+        final BiConsumer<Result<? extends Integer, ?>, Consumer<Integer>> emitter = ResultStreams.emitSuccess();
+        final List<Integer> emitted = new ArrayList<>();
+        // When
+        emitter.accept(Results.success(1), emitted::add);
+        emitter.accept(Results.failure("a"), emitted::add);
+        emitter.accept(Results.success(2), emitted::add);
+        // Then
+        assertEquals(asList(1, 2), emitted);
+    }
+
+    @Test
+    void should_emit_failure_values_only() {
+        // Given
+        final BiConsumer<Result<?, ? extends String>, Consumer<String>> emitter = ResultStreams.emitFailure();
+        final List<String> emitted = new ArrayList<>();
+        // When
+        emitter.accept(Results.success(1), emitted::add);
+        emitter.accept(Results.failure("a"), emitted::add);
+        emitter.accept(Results.failure("b"), emitted::add);
+        // Then
+        assertEquals(asList("a", "b"), emitted);
+    }
+
+    @Test
+    void should_stream_values_like_flat_map() {
+        // Then
+        assertEquals(
+                results(100).flatMap(Result::streamSuccess).collect(toList()),
+                ResultStreams.streamSuccess(results(100)).collect(toList()));
+        assertEquals(
+                results(100).flatMap(Result::streamFailure).collect(toList()),
+                ResultStreams.streamFailure(results(100)).collect(toList()));
+    }
+
+    @Test
+    void should_keep_encounter_order_in_parallel_streams() {
+        // When
+        final Stream<Integer> successes = ResultStreams.streamSuccess(results(100_000).parallel());
+        final Stream<String> failures = ResultStreams.streamFailure(results(100_000).parallel());
+        // Then
+        assertTrue(successes.isParallel());
+        assertEquals(results(100_000).flatMap(Result::streamSuccess).collect(toList()), successes.collect(toList()));
+        assertEquals(results(100_000).flatMap(Result::streamFailure).collect(toList()), failures.collect(toList()));
+    }
+
+    @Test
+    void should_consume_results_lazily() {
+        // Given
+        final AtomicInteger consumed = new AtomicInteger();
+        // When
+        final Optional<Integer> first = ResultStreams.streamSuccess(results(100).peek(r -> consumed.incrementAndGet()))
+                .findFirst();
+        // Then
+        assertEquals(Optional.of(1), first);
+        assertEquals(2, consumed.get());
+    }
+
+    @Test
+    void should_not_report_exact_size() {
+        // Given
+        final Spliterator<Integer> spliterator = ResultStreams.streamSuccess(results(100)).spliterator();
+        // Then
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.NONNULL));
+        assertEquals(100, spliterator.estimateSize());
+    }
+
+    @Test
+    void should_close_source_stream() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        // When
+        ResultStreams.streamFailure(results(10).onClose(() -> closed.set(true))).close();
+        // Then
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void should_reject_null_results() {
+        // Given
+        final Stream<Result<Integer, String>> results = Stream.of(Results.success(1), null);
+        // Then
+        assertThrows(NullPointerException.class, () -> ResultStreams.streamSuccess(results).count());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link Success}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class SuccessTest {
+
+    private final CoreResult<String, Integer> success = Results.success("OK");
+
+    @Test
+    void should_hold_success_value() {
+        // Then
+        assertTrue(this.success.hasSuccess());
+        assertFalse(this.success.hasFailure());
+        assertEquals(Optional.of("OK"), this.success.getSuccess());
+        assertEquals(Optional.empty(), this.success.getFailure());
+        assertEquals("OK", this.success.orElse("other"));
+        assertEquals("OK", this.success.orElseMap(failure -> "other"));
+        assertEquals("OK", this.success.orElseThrow(failure -> new IllegalStateException()));
+        assertEquals(Collections.singletonList("OK"), this.success.streamSuccess().collect(toList()));
+        assertEquals(0, this.success.streamFailure().count());
+    }
+
+    @Test
+    void should_reject_null_value() {
+        assertThrows(NullPointerException.class, () -> Results.success(null));
+    }
+
+    @Test
+    void should_fold_success_value() {
+        // Then
+        assertEquals("OK!", this.success.fold(s -> s + "!", f -> "failure"));
+        assertEquals(2, this.success.foldToInt(String::length, f -> -1));
+        assertEquals(2L, this.success.foldToLong(String::length, f -> -1L));
+        assertEquals(2.0, this.success.foldToDouble(String::length, f -> -1.0));
+    }
+
+    @Test
+    void should_return_same_instance_from_operations_that_do_not_apply() {
+        // Then
+        assertSame(this.success, this.success.ifFailure(failure -> {
+            throw new AssertionError();
+        }));
+        assertSame(this.success, this.success.recover(failure -> true, failure -> "recovered"));
+        assertSame(this.success, this.success.mapFailure(failure -> failure + 1));
+        assertSame(this.success, this.success.flatMapFailure(failure -> Results.success("other")));
+        assertSame(this.success, this.success.filter(value -> true, value -> 1));
+    }
+
+    @Test
+    void should_perform_success_actions() {
+        // Given
+        final AtomicReference<String> performed = new AtomicReference<>();
+        // When
+        final Result<String, Integer> result = this.success.ifSuccessOrElse(performed::set, failure -> {
+            throw new AssertionError();
+        });
+        // Then
+        assertSame(this.success, result);
+        assertEquals("OK", performed.get());
+    }
+
+    @Test
+    void should_transform_success_value() {
+        // Then
+        assertEquals(Results.success(2), this.success.mapSuccess(String::length));
+        assertEquals(Results.success(2), this.success.map(String::length, failure -> "failure"));
+        assertEquals(Results.failure(2), this.success.filter(value -> false, String::length));
+        assertEquals(Results.failure(3), this.success.flatMapSuccess(value -> Results.failure(3)));
+        assertEquals(Results.success(4), this.success.flatMap(value -> Results.success(4), Results::failure));
+    }
+
+    @Test
+    void should_reject_null_mapped_values() {
+        assertThrows(NullPointerException.class, () -> this.success.mapSuccess(value -> null));
+        assertThrows(NullPointerException.class, () -> this.success.filter(value -> false, value -> null));
+        assertThrows(NullPointerException.class, () -> this.success.flatMapSuccess(value -> null));
+    }
+
+    @Test
+    void should_be_equal_to_success_with_equal_value() {
+        // Then
+        assertEquals(Results.success("OK"), this.success);
+        assertEquals(Results.success("OK").hashCode(), this.success.hashCode());
+        assertNotEquals(Results.failure("OK"), this.success);
+        assertNotEquals(Results.success("KO"), this.success);
+        assertEquals("Success[OK]", this.success.toString());
+    }
+}
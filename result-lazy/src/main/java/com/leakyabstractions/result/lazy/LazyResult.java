@@ -0,0 +1,385 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * A result that is not computed until it is actually needed.
+ * <p>
+ * A lazy result wraps a supplier of results. The supplier is invoked the first time the outcome is needed, and the
+ * result it returns is memoized. Even when many threads need the outcome at the same time, the supplier is invoked only
+ * once: one thread evaluates it without holding any locks, and the others wait for it to finish.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;String, String&gt; title = LazyResult.of(() -&gt; catalog.find(id)).mapSuccess(Book::getTitle);
+ * // catalog.find(id) is only invoked if the title is actually used
+ * String text = title.orElse("Untitled");</code>
+ * </pre>
+ * <p>
+ * Operations that transform a lazy result ({@code filter}, {@code recover}, and the {@code map} and {@code flatMap}
+ * families) return a new lazy result without evaluating this one. Lazy results have identity semantics, so
+ * {@code equals}, {@code hashCode} and {@code toString} do not evaluate them either. All other operations are
+ * terminal: they evaluate this lazy result, and then behave as the memoized result would. In particular, actions such
+ * as {@link #ifSuccess(Consumer)} are performed immediately.
+ * <p>
+ * If the supplier throws an exception, the exception is propagated and nothing is memoized. The supplier will be
+ * invoked again the next time the outcome is needed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ * @see Result
+ */
+public final class LazyResult<S, F> implements Result<S, F> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyResult, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(LazyResult.class, Object.class, "state");
+
+    private static final Waiter DONE = new Waiter(null, null);
+
+    // Only read by the thread that wins the evaluation; cleared before the memoized result is published
+    private volatile Supplier<? extends Result<? extends S, ? extends F>> supplier;
+
+    // Either null (not evaluated yet), an evaluation in progress, or the memoized result
+    private volatile Object state;
+
+    private LazyResult(Supplier<? extends Result<? extends S, ? extends F>> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Creates a new lazy result.
+     *
+     * @param <S> the type of the success value
+     * @param <F> the type of the failure value
+     * @param supplier the supplier of the actual result; it must not return {@code null}
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier} is {@code null}
+     */
+    public static <S, F> LazyResult<S, F> of(Supplier<? extends Result<? extends S, ? extends F>> supplier) {
+        return new LazyResult<>(requireNonNull(supplier));
+    }
+
+    /**
+     * Returns whether this lazy result has been evaluated already.
+     *
+     * @return {@code true} if the supplier has returned a result; otherwise {@code false}
+     */
+    public boolean isEvaluated() {
+        return this.state instanceof Result;
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return this.get().hasSuccess();
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return this.get().hasFailure();
+    }
+
+    @Override
+    public Optional<S> getSuccess() {
+        return this.get().getSuccess();
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return this.get().getFailure();
+    }
+
+    @Override
+    public S orElse(S other) {
+        return this.get().orElse(other);
+    }
+
+    @Override
+    public S orElseMap(Function<? super F, ? extends S> mapper) {
+        return this.get().orElseMap(mapper);
+    }
+
+    @Override
+    public <X extends Throwable> S orElseThrow(Function<? super F, ? extends X> exceptionMapper) throws X {
+        return this.get().orElseThrow(exceptionMapper);
+    }
+
+    @Override
+    public <R> R fold(Function<? super S, ? extends R> successMapper, Function<? super F, ? extends R> failureMapper) {
+        return this.get().fold(successMapper, failureMapper);
+    }
+
+    @Override
+    public int foldToInt(ToIntFunction<? super S> successMapper, ToIntFunction<? super F> failureMapper) {
+        return this.get().foldToInt(successMapper, failureMapper);
+    }
+
+    @Override
+    public long foldToLong(ToLongFunction<? super S> successMapper, ToLongFunction<? super F> failureMapper) {
+        return this.get().foldToLong(successMapper, failureMapper);
+    }
+
+    @Override
+    public double foldToDouble(ToDoubleFunction<? super S> successMapper, ToDoubleFunction<? super F> failureMapper) {
+        return this.get().foldToDouble(successMapper, failureMapper);
+    }
+
+    @Override
+    public Stream<S> streamSuccess() {
+        return this.get().streamSuccess();
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return this.get().streamFailure();
+    }
+
+    @Override
+    public Result<S, F> ifSuccess(Consumer<? super S> action) {
+        this.get().ifSuccess(action);
+        return this;
+    }
+
+    @Override
+    public Result<S, F> ifFailure(Consumer<? super F> action) {
+        this.get().ifFailure(action);
+        return this;
+    }
+
+    @Override
+    public Result<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        this.get().ifSuccessOrElse(successAction, failureAction);
+        return this;
+    }
+
+    @Override
+    public Result<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        requireNonNull(isAcceptable);
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().filter(isAcceptable, mapper));
+    }
+
+    @Override
+    public Result<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        requireNonNull(isRecoverable);
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().recover(isRecoverable, mapper));
+    }
+
+    @Override
+    public <S2> Result<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().mapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> Result<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().mapFailure(mapper));
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper,
+            Function<? super F, ? extends F2> failureMapper) {
+        requireNonNull(successMapper);
+        requireNonNull(failureMapper);
+        return new LazyResult<>(() -> this.get().map(successMapper, failureMapper));
+    }
+
+    @Override
+    public <S2> Result<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().flatMapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> Result<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        requireNonNull(mapper);
+        return new LazyResult<>(() -> this.get().flatMapFailure(mapper));
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        requireNonNull(successMapper);
+        requireNonNull(failureMapper);
+        return new LazyResult<>(() -> this.get().flatMap(successMapper, failureMapper));
+    }
+
+    /**
+     * Indicates whether some other object is the same as this lazy result.
+     * <p>
+     * Lazy results have identity semantics: they are only equal to themselves. Comparing their values would evaluate
+     * them, and would not be symmetric, since other results are never equal to a lazy result. This method does not
+     * evaluate this lazy result. To compare outcomes, compare their success or failure values instead.
+     *
+     * @param obj the object to be tested for equality
+     * @return {@code true} if the other object is this lazy result; otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    /**
+     * Returns the identity hash code of this lazy result.
+     * <p>
+     * This method does not evaluate this lazy result.
+     *
+     * @return the identity hash code of this lazy result
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    /**
+     * Returns a string representation of this lazy result.
+     * <p>
+     * This method does not evaluate this lazy result. If it has not been evaluated yet, the returned string does not
+     * include its value.
+     *
+     * @return a string representation of this lazy result
+     */
+    @Override
+    public String toString() {
+        final Object current = this.state;
+        return current instanceof Result ? "LazyResult[" + current + "]" : "LazyResult[not evaluated]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<S, F> get() {
+        final Object current = this.state;
+        return current instanceof Result ? (Result<S, F>) current : this.evaluate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<S, F> evaluate() {
+        final Thread thread = Thread.currentThread();
+        Waiter waiter = null;
+        boolean interrupted = false;
+        for (;;) {
+            final Object current = this.state;
+            if (current instanceof Result) {
+                if (interrupted) {
+                    thread.interrupt();
+                }
+                return (Result<S, F>) current;
+            }
+            if (current == null) {
+                final Evaluation evaluation = new Evaluation(thread);
+                if (STATE.compareAndSet(this, null, evaluation)) {
+                    return this.evaluate(evaluation);
+                }
+            } else {
+                final Evaluation evaluation = (Evaluation) current;
+                if (evaluation.thread == thread) {
+                    throw new IllegalStateException("Lazy result depends on itself");
+                }
+                if (waiter == null || waiter.evaluation != evaluation) {
+                    waiter = new Waiter(thread, evaluation);
+                }
+                evaluation.await(this, waiter);
+                interrupted |= Thread.interrupted();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<S, F> evaluate(Evaluation evaluation) {
+        Result<? extends S, ? extends F> result = null;
+        try {
+            result = requireNonNull(this.supplier.get(), "Lazy result supplier returned null");
+            this.supplier = null;
+        } finally {
+            // Back to not evaluated if the supplier failed
+            this.state = result;
+            evaluation.release();
+        }
+        return (Result<S, F>) result;
+    }
+
+    /** An evaluation in progress, with a lock-free stack of threads waiting for it to finish. */
+    private static final class Evaluation {
+
+        final Thread thread;
+        final AtomicReference<Waiter> waiters = new AtomicReference<>();
+
+        Evaluation(Thread thread) {
+            this.thread = thread;
+        }
+
+        void await(LazyResult<?, ?> lazy, Waiter waiter) {
+            if (!waiter.queued) {
+                final Waiter head = this.waiters.get();
+                if (head == DONE) {
+                    return;
+                }
+                waiter.next = head;
+                if (!this.waiters.compareAndSet(head, waiter)) {
+                    return;
+                }
+                waiter.queued = true;
+            }
+            if (lazy.state == this) {
+                LockSupport.park(lazy);
+            }
+        }
+
+        void release() {
+            for (Waiter waiter = this.waiters.getAndSet(DONE); waiter != null; waiter = waiter.next) {
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    /** A thread waiting for an evaluation to finish. */
+    private static final class Waiter {
+
+        final Thread thread;
+        final Evaluation evaluation;
+        Waiter next;
+        boolean queued;
+
+        Waiter(Thread thread, Evaluation evaluation) {
+            this.thread = thread;
+            this.evaluation = evaluation;
+        }
+    }
+}
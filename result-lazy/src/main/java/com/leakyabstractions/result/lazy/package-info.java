@@ -0,0 +1,22 @@
+/**
+ * Lazy results for the Result API
+ * <p>
+ * <img src="https://dev.leakyabstractions.com/result-api/result.svg" alt="Result Library">
+ * <h2>Result Library Lazy</h2>
+ * <p>
+ * This package provides {@link com.leakyabstractions.result.lazy.LazyResult}, a
+ * {@link com.leakyabstractions.result.api.Result} that is not computed until it is actually needed.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Result&lt;Config, String&gt; config = LazyResult.of(() -&gt; loadConfig(path));</code>
+ * </pre>
+ * <p>
+ * Transformations are deferred too, so no work is done on paths that never look at the outcome.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.api Introduction
+ * @see com.leakyabstractions.result.lazy.LazyResult
+ */
+
+package com.leakyabstractions.result.lazy;
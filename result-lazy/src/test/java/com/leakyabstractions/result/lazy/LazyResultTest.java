@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+
+/**
+ * Tests for {@link LazyResult}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class LazyResultTest {
+
+    @Test
+    void should_not_invoke_supplier_until_outcome_is_needed() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, String> lazy = LazyResult.of(() -> {
+            calls.incrementAndGet();
+            return Results.success(1);
+        });
+        // When
+        final Result<Integer, String> mapped = lazy.mapSuccess(x -> x + 1).filter(x -> x > 0, x -> "negative");
+        final String string = lazy.toString();
+        // Then
+        assertEquals(0, calls.get());
+        assertFalse(lazy.isEvaluated());
+        assertEquals("LazyResult[not evaluated]", string);
+        assertEquals(2, mapped.orElse(0));
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_invoke_supplier_once_when_many_threads_need_outcome() throws Exception {
+        // Given
+        final int threads = 16;
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final LazyResult<Object, String> lazy = LazyResult.of(() -> {
+            calls.incrementAndGet();
+            sleep();
+            return Results.success(new Object());
+        });
+        final Callable<Object> task = () -> {
+            start.await();
+            return lazy.orElse(null);
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(task));
+            }
+            // When
+            start.countDown();
+            final Object first = futures.get(0).get();
+            // Then
+            for (final Future<Object> future : futures) {
+                assertSame(first, future.get());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_invoke_supplier_again_when_it_throws() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, String> lazy = LazyResult.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Results.success(calls.get());
+        });
+        // When
+        assertThrows(IllegalStateException.class, lazy::hasSuccess);
+        final boolean evaluated = lazy.isEvaluated();
+        final int value = lazy.orElse(0);
+        // Then
+        assertFalse(evaluated);
+        assertEquals(2, value);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void should_fail_when_lazy_result_depends_on_itself() {
+        // Given
+        final AtomicReference<LazyResult<Integer, String>> self = new AtomicReference<>();
+        self.set(LazyResult.of(() -> Results.success(self.get().orElse(0))));
+        // When
+        final IllegalStateException error = assertThrows(IllegalStateException.class, () -> self.get().hasSuccess());
+        // Then
+        assertEquals("Lazy result depends on itself", error.getMessage());
+    }
+
+    @Test
+    void should_fold_memoized_result() {
+        // Given
+        final LazyResult<Integer, String> success = LazyResult.of(() -> Results.success(3));
+        final LazyResult<Integer, String> failure = LazyResult.of(() -> Results.failure("fail"));
+        // When
+        final String folded = failure.fold(s -> "success", f -> f);
+        final int foldedToInt = success.foldToInt(s -> s * 2, String::length);
+        final long foldedToLong = failure.foldToLong(s -> s, String::length);
+        final double foldedToDouble = success.foldToDouble(s -> s / 2.0, f -> 0);
+        final int value = success.orElseThrow(IllegalStateException::new);
+        // Then
+        assertEquals("fail", folded);
+        assertEquals(6, foldedToInt);
+        assertEquals(4L, foldedToLong);
+        assertEquals(1.5, foldedToDouble);
+        assertEquals(3, value);
+        assertThrows(IllegalStateException.class, () -> failure.orElseThrow(IllegalStateException::new));
+    }
+
+    @Test
+    void should_be_equal_only_to_itself_without_being_evaluated() {
+        // Given
+        final Result<Integer, String> success = Results.success(1);
+        final LazyResult<Integer, String> lazy = LazyResult.of(() -> success);
+        final LazyResult<Integer, String> other = LazyResult.of(() -> success);
+        // When
+        final int hashCode = lazy.hashCode();
+        // Then
+        assertEquals(lazy, lazy);
+        assertNotEquals(lazy, other);
+        assertEquals(success.equals(lazy), lazy.equals(success));
+        assertFalse(lazy.equals(success));
+        assertEquals(System.identityHashCode(lazy), hashCode);
+        assertFalse(lazy.isEvaluated());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
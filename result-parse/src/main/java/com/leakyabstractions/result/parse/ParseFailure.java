@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.parse;
+
+/**
+ * Describes why some text could not be parsed.
+ * <p>
+ * A parse failure holds the {@link Reason reason} and the index of the character where parsing failed. The index is
+ * relative to the whole {@code CharSequence}, not to the parsed range.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see Parsers
+ */
+public final class ParseFailure {
+
+    /** Enumerates the reasons why parsing may fail. */
+    public enum Reason {
+
+        /** The text to parse is empty. */
+        EMPTY,
+
+        /** The text contains a character that is not allowed at that position. */
+        INVALID_CHARACTER,
+
+        /** The text does not have the expected length or structure. */
+        INVALID_FORMAT,
+
+        /** The text is well-formed, but the value it represents is out of range. */
+        OUT_OF_RANGE
+    }
+
+    private final Reason reason;
+    private final int index;
+
+    ParseFailure(Reason reason, int index) {
+        this.reason = reason;
+        this.index = index;
+    }
+
+    /**
+     * Returns the reason why parsing failed.
+     *
+     * @return the reason why parsing failed
+     */
+    public Reason getReason() {
+        return this.reason;
+    }
+
+    /**
+     * Returns the index of the character where parsing failed.
+     *
+     * @return the index of the character where parsing failed
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ParseFailure)) {
+            return false;
+        }
+        final ParseFailure other = (ParseFailure) obj;
+        return this.reason == other.reason && this.index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.reason.hashCode() + this.index;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseFailure[" + this.reason + " at " + this.index + "]";
+    }
+}
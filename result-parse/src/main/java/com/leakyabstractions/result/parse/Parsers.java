@@ -0,0 +1,765 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.parse;
+
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.EMPTY;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.INVALID_CHARACTER;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.INVALID_FORMAT;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.OUT_OF_RANGE;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.UUID;
+
+import com.leakyabstractions.result.api.DoubleResult;
+import com.leakyabstractions.result.api.IntResult;
+import com.leakyabstractions.result.api.LongResult;
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.core.Results;
+import com.leakyabstractions.result.parse.ParseFailure.Reason;
+
+/**
+ * Parses text into values without throwing exceptions.
+ * <p>
+ * The JDK methods {@link Integer#parseInt(String)}, {@link UUID#fromString(String)}, {@link LocalDate#parse} and
+ * {@link URI#create(String)} throw an exception when their input is invalid. That is fine for trusted input, but very
+ * slow when invalid input is expected. These methods validate the input themselves and return a failed {@code Result}
+ * holding a {@link ParseFailure} instead.
+ * <p>
+ * Every method can also parse a range of a {@link CharSequence}. This avoids copying it with {@code substring} first.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * String line = "id=42";
+ * IntResult&lt;ParseFailure&gt; x = Parsers.parseInt(line, 3, line.length());</code>
+ * </pre>
+ *
+ * @implNote Ranges out of bounds are programming errors, not invalid input. They are reported by throwing
+ *     {@link IndexOutOfBoundsException}, just like {@link CharSequence#subSequence(int, int)} does.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see ParseFailure
+ */
+public final class Parsers {
+
+    private Parsers() {
+        // Not intended to be instantiated
+    }
+
+    /**
+     * Parses the given text as a signed decimal {@code int}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code IntResult} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseInt(CharSequence, int, int)
+     */
+    public static IntResult<ParseFailure> parseInt(CharSequence text) {
+        return parseInt(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a signed decimal {@code int}.
+     * <p>
+     * Accepts the same input as {@link Integer#parseInt(String)}: an optional sign followed by one or more digits.
+     *
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code IntResult} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static IntResult<ParseFailure> parseInt(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        if (begin == end) {
+            return Results.intFailure(failure(EMPTY, begin));
+        }
+        int i = begin;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        final char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            if (first == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            }
+            if (++i == end) {
+                return Results.intFailure(failure(INVALID_FORMAT, begin));
+            }
+        }
+        final int multiplyLimit = limit / 10;
+        int value = 0;
+        for (; i < end; i++) {
+            final int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return Results.intFailure(failure(INVALID_CHARACTER, i));
+            }
+            if (value < multiplyLimit || (value *= 10) < limit + digit) {
+                return Results.intFailure(failure(OUT_OF_RANGE, begin));
+            }
+            value -= digit;
+        }
+        return Results.intSuccess(negative ? value : -value);
+    }
+
+    /**
+     * Parses the given text as a signed decimal {@code long}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code LongResult} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseLong(CharSequence, int, int)
+     */
+    public static LongResult<ParseFailure> parseLong(CharSequence text) {
+        return parseLong(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a signed decimal {@code long}.
+     * <p>
+     * Accepts the same input as {@link Long#parseLong(String)}: an optional sign followed by one or more digits.
+     *
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code LongResult} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static LongResult<ParseFailure> parseLong(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        if (begin == end) {
+            return Results.longFailure(failure(EMPTY, begin));
+        }
+        int i = begin;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        final char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            if (first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            }
+            if (++i == end) {
+                return Results.longFailure(failure(INVALID_FORMAT, begin));
+            }
+        }
+        final long multiplyLimit = limit / 10;
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return Results.longFailure(failure(INVALID_CHARACTER, i));
+            }
+            if (value < multiplyLimit || (value *= 10) < limit + digit) {
+                return Results.longFailure(failure(OUT_OF_RANGE, begin));
+            }
+            value -= digit;
+        }
+        return Results.longSuccess(negative ? value : -value);
+    }
+
+    /**
+     * Parses the given text as a decimal {@code double}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code DoubleResult} holding the parsed value; or a failed one holding a
+     *     {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    public static DoubleResult<ParseFailure> parseDouble(CharSequence text) {
+        return parseDouble(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a decimal {@code double}.
+     * <p>
+     * Accepts the decimal input of {@link Double#parseDouble(String)}: an optional sign followed by {@code NaN},
+     * {@code Infinity}, or a decimal number with an optional exponent and an optional type suffix. Unlike
+     * {@code Double.parseDouble}, leading and trailing whitespace and hexadecimal notation are rejected.
+     *
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code DoubleResult} holding the parsed value; or a failed one holding a
+     *     {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static DoubleResult<ParseFailure> parseDouble(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        if (begin == end) {
+            return Results.doubleFailure(failure(EMPTY, begin));
+        }
+        int i = begin;
+        final char first = text.charAt(i);
+        if ((first == '-' || first == '+') && ++i == end) {
+            return Results.doubleFailure(failure(INVALID_FORMAT, begin));
+        }
+        if (matches(text, i, end, "NaN") || matches(text, i, end, "Infinity")) {
+            return Results.doubleSuccess(Double.parseDouble(toString(text, begin, end)));
+        }
+        final int integer = skipDigits(text, i, end);
+        int fraction = integer;
+        if (fraction < end && text.charAt(fraction) == '.') {
+            fraction = skipDigits(text, fraction + 1, end);
+        }
+        if (integer == i && fraction <= integer + 1) {
+            return Results.doubleFailure(failure(fraction == i ? INVALID_CHARACTER : INVALID_FORMAT, i));
+        }
+        i = fraction;
+        if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            int exponent = i + 1;
+            if (exponent < end && (text.charAt(exponent) == '-' || text.charAt(exponent) == '+')) {
+                exponent++;
+            }
+            i = skipDigits(text, exponent, end);
+            if (i == exponent) {
+                return Results.doubleFailure(failure(INVALID_FORMAT, exponent));
+            }
+        }
+        if (i < end && "fFdD".indexOf(text.charAt(i)) >= 0) {
+            i++;
+        }
+        if (i < end) {
+            return Results.doubleFailure(failure(INVALID_CHARACTER, i));
+        }
+        return Results.doubleSuccess(Double.parseDouble(toString(text, begin, end)));
+    }
+
+    /**
+     * Parses the given text as a {@link UUID}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseUuid(CharSequence, int, int)
+     */
+    public static Result<UUID, ParseFailure> parseUuid(CharSequence text) {
+        return parseUuid(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a {@link UUID}.
+     * <p>
+     * Accepts only the canonical form: 32 hexadecimal digits in groups of 8, 4, 4, 4 and 12, separated by hyphens.
+     *
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static Result<UUID, ParseFailure> parseUuid(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        if (begin == end) {
+            return Results.failure(failure(EMPTY, begin));
+        }
+        if (end - begin != 36) {
+            return Results.failure(failure(INVALID_FORMAT, begin));
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int digits = 0;
+        for (int i = begin; i < end; i++) {
+            final char c = text.charAt(i);
+            final int position = i - begin;
+            if (position == 8 || position == 13 || position == 18 || position == 23) {
+                if (c != '-') {
+                    return Results.failure(failure(INVALID_CHARACTER, i));
+                }
+                continue;
+            }
+            final int digit = hexDigit(c);
+            if (digit < 0) {
+                return Results.failure(failure(INVALID_CHARACTER, i));
+            }
+            if (digits++ < 16) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+        return Results.success(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+
+    /**
+     * Parses the given text as a {@link LocalDate}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseLocalDate(CharSequence, int, int)
+     */
+    public static Result<LocalDate, ParseFailure> parseLocalDate(CharSequence text) {
+        return parseLocalDate(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a {@link LocalDate}.
+     * <p>
+     * Accepts ISO-8601 dates with a four-digit year, such as {@code 2024-02-29}.
+     *
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static Result<LocalDate, ParseFailure> parseLocalDate(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        if (begin == end) {
+            return Results.failure(failure(EMPTY, begin));
+        }
+        if (end - begin != 10) {
+            return Results.failure(failure(INVALID_FORMAT, begin));
+        }
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = begin; i < end; i++) {
+            final char c = text.charAt(i);
+            final int position = i - begin;
+            if (position == 4 || position == 7) {
+                if (c != '-') {
+                    return Results.failure(failure(INVALID_CHARACTER, i));
+                }
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return Results.failure(failure(INVALID_CHARACTER, i));
+            }
+            if (position < 4) {
+                year = year * 10 + (c - '0');
+            } else if (position < 7) {
+                month = month * 10 + (c - '0');
+            } else {
+                day = day * 10 + (c - '0');
+            }
+        }
+        if (month < 1 || month > 12) {
+            return Results.failure(failure(OUT_OF_RANGE, begin + 5));
+        }
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Results.failure(failure(OUT_OF_RANGE, begin + 8));
+        }
+        return Results.success(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Parses the given text as a {@link URI}.
+     *
+     * @param text the text to parse
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @see #parseUri(CharSequence, int, int)
+     */
+    public static Result<URI, ParseFailure> parseUri(CharSequence text) {
+        return parseUri(text, 0, text.length());
+    }
+
+    /**
+     * Parses a range of the given text as a {@link URI}.
+     * <p>
+     * Accepts the same input as {@link URI#URI(String)}. Note that an empty text is a valid relative URI.
+     *
+     * @implNote The text is validated against the same grammar that {@link URI#URI(String)} accepts: illegal
+     *     characters, malformed escape sequences, scheme names, empty scheme-specific parts and authorities, IPv6
+     *     addresses and port numbers. So invalid input is reported without creating any exceptions, and the URI is only
+     *     constructed once the text is known to be valid.
+     * @param text the text to parse
+     * @param begin the index of the first character to parse, inclusive
+     * @param end the index of the last character to parse, exclusive
+     * @return a successful {@code Result} holding the parsed value; or a failed one holding a {@link ParseFailure}
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code begin} or {@code end} are out of bounds
+     */
+    public static Result<URI, ParseFailure> parseUri(CharSequence text, int begin, int end) {
+        checkRange(text, begin, end);
+        boolean fragment = false;
+        boolean bracket = false;
+        int lastZoneEscape = -1;
+        for (int i = begin; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c == '%') {
+                if (isEscape(text, i, end)) {
+                    i += 2;
+                } else if (bracket) {
+                    // May be the zone ID of an IPv6 address, such as "[fe80::1%eth0]"; checked later
+                    lastZoneEscape = i;
+                } else {
+                    return Results.failure(failure(INVALID_CHARACTER, i));
+                }
+            } else if (c == '#' ? fragment : !isUriCharacter(c)) {
+                return Results.failure(failure(INVALID_CHARACTER, i));
+            } else if (c == '#') {
+                fragment = true;
+            } else if (c == '[' || c == ']') {
+                bracket = c == '[';
+            }
+        }
+        final ParseFailure structure = checkUri(text, begin, end, lastZoneEscape);
+        if (structure != null) {
+            return Results.failure(structure);
+        }
+        try {
+            return Results.success(new URI(toString(text, begin, end)));
+        } catch (URISyntaxException e) {
+            // Not expected: the text has already been validated
+            return Results.failure(failure(INVALID_FORMAT, begin + Math.max(e.getIndex(), 0)));
+        }
+    }
+
+    private static ParseFailure checkUri(CharSequence text, int begin, int end, int lastZoneEscape) {
+        int p = begin;
+        final int colon = indexOfAny(text, begin, end, ":/?#");
+        if (colon < end && text.charAt(colon) == ':') {
+            if (colon == begin) {
+                return failure(INVALID_FORMAT, begin);
+            }
+            for (int i = begin; i < colon; i++) {
+                if (!isSchemeCharacter(text.charAt(i), i == begin)) {
+                    return failure(INVALID_CHARACTER, i);
+                }
+            }
+            p = colon + 1;
+            if (p == end || text.charAt(p) == '#') {
+                return failure(INVALID_FORMAT, p);
+            }
+            if (text.charAt(p) != '/') {
+                // Opaque URI: every character that passed the first scan is allowed
+                return checkEscapes(text, p, end, lastZoneEscape);
+            }
+        }
+        if (p + 1 < end && text.charAt(p) == '/' && text.charAt(p + 1) == '/') {
+            p += 2;
+            final int authorityEnd = indexOfAny(text, p, end, "/?#");
+            if (authorityEnd == p && authorityEnd == end) {
+                return failure(INVALID_FORMAT, p);
+            }
+            final ParseFailure authority = checkAuthority(text, p, authorityEnd);
+            if (authority != null) {
+                return authority;
+            }
+            p = authorityEnd;
+        }
+        final int rest = p;
+        for (; p < end; p++) {
+            final char c = text.charAt(p);
+            if (c == '?' || c == '#') {
+                // Query and fragment: every character that passed the first scan is allowed
+                break;
+            }
+            if (c == '[' || c == ']') {
+                return failure(INVALID_CHARACTER, p);
+            }
+        }
+        return checkEscapes(text, rest, end, lastZoneEscape);
+    }
+
+    private static ParseFailure checkEscapes(CharSequence text, int begin, int end, int lastZoneEscape) {
+        if (lastZoneEscape < begin) {
+            // Any malformed escape sequence is part of the zone ID, already checked along with the authority
+            return null;
+        }
+        for (int i = begin; i < end; i++) {
+            if (text.charAt(i) == '%') {
+                if (!isEscape(text, i, end)) {
+                    return failure(INVALID_CHARACTER, i);
+                }
+                i += 2;
+            }
+        }
+        return null;
+    }
+
+    private static ParseFailure checkAuthority(CharSequence text, int begin, int end) {
+        if (indexOfAny(text, begin, end, "[]") == end) {
+            // Any authority without brackets is at least a valid registry-based authority
+            return null;
+        }
+        int p = begin;
+        final int at = indexOf(text, begin, end, '@');
+        if (at >= 0) {
+            for (int i = begin; i < at; i++) {
+                if (text.charAt(i) == '[' || text.charAt(i) == ']') {
+                    return failure(INVALID_CHARACTER, i);
+                }
+            }
+            p = at + 1;
+        }
+        if (p == end || text.charAt(p) != '[') {
+            return failure(INVALID_FORMAT, p);
+        }
+        final int close = indexOf(text, p + 1, end, ']');
+        if (close <= p + 1) {
+            return failure(INVALID_FORMAT, p + 1);
+        }
+        final int percent = indexOf(text, p + 1, close, '%');
+        if (!new Ipv6Scanner(text, percent < 0 ? close : percent).matches(p + 1)) {
+            return failure(INVALID_FORMAT, p + 1);
+        }
+        if (percent >= 0) {
+            if (percent + 1 == close) {
+                return failure(INVALID_FORMAT, close);
+            }
+            for (int i = percent + 1; i < close; i++) {
+                if (!isScopeCharacter(text.charAt(i))) {
+                    return failure(INVALID_CHARACTER, i);
+                }
+            }
+        }
+        p = close + 1;
+        if (p < end && text.charAt(p) == ':') {
+            final int digits = skipDigits(text, ++p, end);
+            long port = 0;
+            for (int i = p; i < digits; i++) {
+                port = port * 10 + text.charAt(i) - '0';
+                if (port > Integer.MAX_VALUE) {
+                    return failure(OUT_OF_RANGE, p);
+                }
+            }
+            p = digits;
+        }
+        return p < end ? failure(INVALID_FORMAT, p) : null;
+    }
+
+    private static int indexOf(CharSequence text, int begin, int end, char target) {
+        for (int i = begin; i < end; i++) {
+            if (text.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfAny(CharSequence text, int begin, int end, String targets) {
+        for (int i = begin; i < end; i++) {
+            if (targets.indexOf(text.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isSchemeCharacter(char c, boolean first) {
+        return c >= 'a' && c <= 'z'
+                || c >= 'A' && c <= 'Z'
+                || !first && (c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.');
+    }
+
+    private static boolean isScopeCharacter(char c) {
+        // The URI class of Java 8 rejects '_' and '.', so parseUri reports those through its fallback
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.';
+    }
+
+    private static void checkRange(CharSequence text, int begin, int end) {
+        if (begin < 0 || begin > end || end > text.length()) {
+            throw new IndexOutOfBoundsException(
+                    "begin " + begin + ", end " + end + ", length " + text.length());
+        }
+    }
+
+    private static ParseFailure failure(Reason reason, int index) {
+        return new ParseFailure(reason, index);
+    }
+
+    private static String toString(CharSequence text, int begin, int end) {
+        if (begin == 0 && end == text.length() && text instanceof String) {
+            return (String) text;
+        }
+        return text.subSequence(begin, end).toString();
+    }
+
+    private static boolean matches(CharSequence text, int begin, int end, String expected) {
+        if (end - begin != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (text.charAt(begin + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipDigits(CharSequence text, int begin, int end) {
+        int i = begin;
+        while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isEscape(CharSequence text, int index, int end) {
+        return index + 2 < end && hexDigit(text.charAt(index + 1)) >= 0 && hexDigit(text.charAt(index + 2)) >= 0;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean isUriCharacter(char c) {
+        if (c >= 0x80) {
+            return !Character.isISOControl(c) && !Character.isSpaceChar(c);
+        }
+        return c >= 'a' && c <= 'z'
+                || c >= 'A' && c <= 'Z'
+                || c >= '0' && c <= '9'
+                || "-_.!~*'();/?:@&=+$,[]".indexOf(c) >= 0;
+    }
+
+    /** Matches IPv6 addresses with the same grammar that {@link URI} accepts (RFC 2732). */
+    private static final class Ipv6Scanner {
+
+        private static final int NONE = -1;
+        private static final int INVALID = -2;
+
+        private final CharSequence text;
+        private final int end;
+        private int bytes;
+
+        Ipv6Scanner(CharSequence text, int end) {
+            this.text = text;
+            this.end = end;
+        }
+
+        boolean matches(int begin) {
+            int p = begin;
+            boolean compressed = false;
+            final int q = this.hexSequence(p);
+            if (q == INVALID) {
+                return false;
+            }
+            if (q > p) {
+                p = q;
+                if (this.at(p, ':') && this.at(p + 1, ':')) {
+                    compressed = true;
+                    p = this.afterCompressed(p + 2);
+                } else if (this.at(p, ':')) {
+                    p = this.ipv4(p + 1);
+                }
+            } else if (this.at(p, ':') && this.at(p + 1, ':')) {
+                compressed = true;
+                p = this.afterCompressed(p + 2);
+            }
+            return p == this.end && this.bytes <= 16 && (compressed ? this.bytes < 16 : this.bytes == 16);
+        }
+
+        private int hexSequence(int begin) {
+            int q = this.hexDigits(begin);
+            if (q == begin || this.at(q, '.')) {
+                return NONE;
+            }
+            if (q > begin + 4) {
+                return INVALID;
+            }
+            this.bytes += 2;
+            int p = q;
+            while (this.at(p, ':') && !this.at(p + 1, ':')) {
+                q = this.hexDigits(++p);
+                if (q == p) {
+                    return INVALID;
+                }
+                if (this.at(q, '.')) {
+                    // Beginning of an IPv4 address
+                    return p - 1;
+                }
+                if (q > p + 4) {
+                    return INVALID;
+                }
+                this.bytes += 2;
+                p = q;
+            }
+            return p;
+        }
+
+        private int afterCompressed(int begin) {
+            if (begin == this.end) {
+                return begin;
+            }
+            final int q = this.hexSequence(begin);
+            if (q == INVALID) {
+                return INVALID;
+            }
+            if (q > begin) {
+                return this.at(q, ':') ? this.ipv4(q + 1) : q;
+            }
+            return this.ipv4(begin);
+        }
+
+        private int ipv4(int begin) {
+            if (begin == this.end) {
+                return INVALID;
+            }
+            int p = begin;
+            for (int i = 0; i < 4; i++) {
+                if (i > 0) {
+                    if (!this.at(p, '.')) {
+                        return INVALID;
+                    }
+                    p++;
+                }
+                final int q = skipDigits(this.text, p, this.end);
+                if (q == p || q > p + 3 || parseByte(this.text, p, q) > 255) {
+                    return INVALID;
+                }
+                p = q;
+            }
+            if (p != this.end) {
+                return INVALID;
+            }
+            this.bytes += 4;
+            return p;
+        }
+
+        private int hexDigits(int begin) {
+            int p = begin;
+            while (p < this.end && hexDigit(this.text.charAt(p)) >= 0) {
+                p++;
+            }
+            return p;
+        }
+
+        private boolean at(int index, char c) {
+            return index >= 0 && index < this.end && this.text.charAt(index) == c;
+        }
+
+        private static int parseByte(CharSequence text, int begin, int end) {
+            int value = 0;
+            for (int i = begin; i < end; i++) {
+                value = value * 10 + text.charAt(i) - '0';
+            }
+            return value;
+        }
+    }
+}
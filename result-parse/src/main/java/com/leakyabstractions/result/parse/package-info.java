@@ -0,0 +1,23 @@
+/**
+ * Exception-free parsers for the Result API
+ * <p>
+ * <img src="https://dev.leakyabstractions.com/result-api/result.svg" alt="Result Library">
+ * <h2>Result Library Parsers</h2>
+ * <p>
+ * This package provides {@link com.leakyabstractions.result.parse.Parsers}, a set of parsers that return a failed
+ * {@link com.leakyabstractions.result.api.Result} instead of throwing an exception when the input is invalid.
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * int port = Parsers.parseInt(text).orElse(8080);</code>
+ * </pre>
+ * <p>
+ * Creating an exception means capturing a stack trace, which is much more expensive than parsing the text itself.
+ * These parsers never do that, so invalid input costs about as much as valid input.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see com.leakyabstractions.result.api Introduction
+ * @see com.leakyabstractions.result.parse.Parsers
+ */
+
+package com.leakyabstractions.result.parse;
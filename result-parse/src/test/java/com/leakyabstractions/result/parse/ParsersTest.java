@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.parse;
+
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.EMPTY;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.INVALID_CHARACTER;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.INVALID_FORMAT;
+import static com.leakyabstractions.result.parse.ParseFailure.Reason.OUT_OF_RANGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Parsers}.
+ * <p>
+ * Most tests compare the parsers with the JDK methods they replace, which must accept the same input and produce the
+ * same values.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ParsersTest {
+
+    @Test
+    void should_parse_int_like_jdk() {
+        for (String text : new String[] {
+            "0", "-0", "+0", "42", "-42", "+42", "007", "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "99999999999", "", "-", "+", "--1", "+-1", "1-", " 1", "1 ", "1.0", "1e3", "0x1F", "a", "\u0661\u0662"
+        }) {
+            assertSameAsJdk(text, Integer::parseInt,
+                    s -> Parsers.parseInt(s).fold(Optional::of, f -> Optional.empty()));
+        }
+    }
+
+    @Test
+    void should_parse_long_like_jdk() {
+        for (String text : new String[] {
+            "0", "-0", "42", "-42", "+42", "2147483648", "9223372036854775807", "-9223372036854775808",
+            "9223372036854775808", "-9223372036854775809", "99999999999999999999", "", "-", "+", "1L", " 1", "1_000"
+        }) {
+            assertSameAsJdk(text, Long::parseLong,
+                    s -> Parsers.parseLong(s).fold(Optional::of, f -> Optional.empty()));
+        }
+    }
+
+    @Test
+    void should_parse_double_like_jdk() {
+        for (String text : new String[] {
+            "0", "-0", "1.5", "-1.5", "+1.5", ".5", "5.", "1e10", "1E-10", "1.5e+3", "1d", "1F", "NaN", "-Infinity",
+            "+Infinity", "1e400", "-1e-400", "4.9e-324", "1.7976931348623157e308",
+            "0.1000000000000000055511151231257827", "", "-", ".", "e5", "1e", "1e+", "1.5.5", "1ee5", "nan", "Inf",
+            "1x", "-.e1"
+        }) {
+            assertSameAsJdk(text, Double::parseDouble,
+                    s -> Parsers.parseDouble(s).fold(Optional::of, f -> Optional.empty()));
+        }
+    }
+
+    @Test
+    void should_reject_double_notation_not_meant_for_decimal_input() {
+        for (String text : new String[] {" 1", "1 ", "\t1.5\n", "0x1p3", "0X1.8P1"}) {
+            assertFalse(Parsers.parseDouble(text).hasSuccess(), text);
+        }
+    }
+
+    @Test
+    void should_parse_uuid_like_jdk() {
+        for (String text : new String[] {
+            "123e4567-e89b-12d3-a456-426614174000", "123E4567-E89B-12D3-A456-426614174000",
+            "00000000-0000-0000-0000-000000000000", "ffffffff-ffff-ffff-ffff-ffffffffffff",
+            "123e4567-e89b-12d3-a456-42661417400g", "123e4567+e89b-12d3-a456-426614174000",
+            "123e4567e89b12d3a456426614174000", "", "-"
+        }) {
+            assertSameAsJdk(text, UUID::fromString, s -> Parsers.parseUuid(s).getSuccess());
+        }
+    }
+
+    @Test
+    void should_reject_non_canonical_uuid() {
+        for (String text : new String[] {
+            "1-2-3-4-5", "123e4567-e89b-12d3-a456-4266141740001", "0123e4567-e89b-12d3-a456-42661417400"
+        }) {
+            assertFalse(Parsers.parseUuid(text).hasSuccess(), text);
+        }
+    }
+
+    @Test
+    void should_parse_local_date_like_jdk() {
+        for (String text : new String[] {
+            "2024-01-31", "2024-02-29", "2023-02-29", "2100-02-29", "2000-02-29", "0000-01-01", "9999-12-31",
+            "2024-00-10", "2024-13-10", "2024-04-31", "2024-04-00", "2024-4-30", "2024/04/30", "24-04-30",
+            "2024-04-30T", "+2024-04-30", "", "abcd-ef-gh"
+        }) {
+            assertSameAsJdk(text, LocalDate::parse, s -> Parsers.parseLocalDate(s).getSuccess());
+        }
+    }
+
+    @Test
+    void should_parse_uri_like_jdk() {
+        for (String text : new String[] {
+            "", "http://example.com", "http://example.com:8080/a/b?c=d#e", "mailto:someone@example.com", "urn:isbn:1",
+            "//host/path", "/absolute/path", "relative/path", "?query", "#fragment", "a%20b", "http://u:p@host:1/",
+            "http://[::1]/", "http://[::1]:8080/", "http://[1:2:3:4:5:6:7:8]/", "http://[::ffff:1.2.3.4]/",
+            "http://[fe80::1%eth0]/", "http://[fe80::1%25eth0]:80/x?y#z", "http://[fe80::1%e0]/",
+            "http://[fe80::1%]/", "http://[fe80::1%eth-0]/", "http://[fe80::1%eth0/", "http://fe80::1%eth0]/",
+            "http://u[%x]@[::1]/", "http://[::1%eth0]:8x/", "http://[1:2:3:4:5:6:7:8:9]/", "http://[::1.2.3.256]/",
+            "http://[]/", "http://[::1]:99999999999/", "http://h/p?[%zz]", "http://h/p#[%zz]", "mailto:[%zz]",
+            "a%2", "a%zz", "%", "a b", "http:", "http:#f", ":x", "1http://h", "h t://x", "http://h/[p]", "x#y#z",
+            "http://\u00e9/\u00e9?\u00e9#\u00e9", "http://h/\u00a0"
+        }) {
+            assertSameAsJdk(text, URI::new, s -> Parsers.parseUri(s).getSuccess());
+        }
+    }
+
+    @Test
+    void should_parse_uri_with_ipv6_zone_id() {
+        // When
+        final URI uri = Parsers.parseUri("http://[fe80::1%eth0]:8080/").orElse(null);
+        // Then
+        assertEquals(URI.create("http://[fe80::1%eth0]:8080/"), uri);
+        assertEquals("[fe80::1%eth0]", uri.getHost());
+        assertEquals(8080, uri.getPort());
+    }
+
+    @Test
+    void should_report_failure_reason_and_index() {
+        assertEquals(failure(EMPTY, 0), Parsers.parseInt("").getFailure().orElse(null));
+        assertEquals(failure(INVALID_FORMAT, 0), Parsers.parseInt("-").getFailure().orElse(null));
+        assertEquals(failure(INVALID_CHARACTER, 2), Parsers.parseInt("12x4").getFailure().orElse(null));
+        assertEquals(failure(OUT_OF_RANGE, 0), Parsers.parseInt("2147483648").getFailure().orElse(null));
+        assertEquals(failure(OUT_OF_RANGE, 8), Parsers.parseLocalDate("2023-02-29").getFailure().orElse(null));
+        assertEquals(failure(INVALID_CHARACTER, 12), Parsers.parseUri("http://h/p?[%zz]").getFailure().orElse(null));
+    }
+
+    @Test
+    void should_parse_range_of_text() {
+        // Given
+        final StringBuilder text = new StringBuilder("id=42;date=2024-02-29");
+        // Then
+        assertEquals(42, Parsers.parseInt(text, 3, 5).orElse(-1));
+        assertEquals(42L, Parsers.parseLong(text, 3, 5).orElse(-1L));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 29)), Parsers.parseLocalDate(text, 11, 21).getSuccess());
+        assertEquals(failure(INVALID_CHARACTER, 5), Parsers.parseInt(text, 3, 6).getFailure().orElse(null));
+        assertEquals(failure(EMPTY, 3), Parsers.parseInt(text, 3, 3).getFailure().orElse(null));
+    }
+
+    @Test
+    void should_reject_ranges_out_of_bounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Parsers.parseInt("123", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parsers.parseLong("123", 2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Parsers.parseUri("123", 0, 4));
+    }
+
+    private static <T> void assertSameAsJdk(
+            String text, JdkParser<T> jdk, Function<String, Optional<T>> parser) {
+        Optional<T> expected;
+        try {
+            expected = Optional.of(jdk.parse(text));
+        } catch (Exception e) {
+            expected = Optional.empty();
+        }
+        assertEquals(expected, parser.apply(text), text);
+    }
+
+    private static ParseFailure failure(ParseFailure.Reason reason, int index) {
+        return new ParseFailure(reason, index);
+    }
+
+    /** Parses text the JDK way, throwing an exception when it is invalid. */
+    private interface JdkParser<T> {
+        T parse(String text) throws Exception;
+    }
+}